@@ -0,0 +1,115 @@
+package com.jigit.backend.benchmark;
+
+import com.jigit.backend.comment.domain.CommentSummary;
+import com.jigit.backend.poll.domain.OptionSummary;
+import com.jigit.backend.poll.domain.PollSummary;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-model rows for benchmarks, as returned by the repository projection queries.
+ */
+public final class Fixtures {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private Fixtures() {
+    }
+
+    public static PollSummary poll(long pollId, long creatorId) {
+        LocalDateTime createdAt = BASE_TIME.plusMinutes(pollId);
+        return new PollSummary() {
+            @Override
+            public Long getPollId() {
+                return pollId;
+            }
+
+            @Override
+            public String getTitle() {
+                return "Poll " + pollId;
+            }
+
+            @Override
+            public Boolean getIsPublic() {
+                return true;
+            }
+
+            @Override
+            public Long getCreatorId() {
+                return creatorId;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+        };
+    }
+
+    public static OptionSummary option(long optionId, long pollId, int optionOrder, int voteCount) {
+        String optionText = "Option " + optionOrder;
+        return new OptionSummary() {
+            @Override
+            public Long getOptionId() {
+                return optionId;
+            }
+
+            @Override
+            public Long getPollId() {
+                return pollId;
+            }
+
+            @Override
+            public String getOptionText() {
+                return optionText;
+            }
+
+            @Override
+            public Integer getOptionOrder() {
+                return optionOrder;
+            }
+
+            @Override
+            public Integer getVoteCount() {
+                return voteCount;
+            }
+        };
+    }
+
+    public static CommentSummary comment(long commentId, long authorId, Long votedOptionId) {
+        String username = "user" + authorId;
+        String content = "Comment " + commentId;
+        LocalDateTime createdAt = BASE_TIME.plusSeconds(commentId);
+        return new CommentSummary() {
+            @Override
+            public Long getCommentId() {
+                return commentId;
+            }
+
+            @Override
+            public Long getAuthorId() {
+                return authorId;
+            }
+
+            @Override
+            public String getAuthorUsername() {
+                return username;
+            }
+
+            @Override
+            public String getContent() {
+                return content;
+            }
+
+            @Override
+            public Long getVotedOptionId() {
+                return votedOptionId;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.jigit.backend.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds in-memory stand-ins for Spring Data repository interfaces.
+ * Only the methods registered with {@link #on} are answered; any other call fails fast,
+ * so a benchmark never silently measures a method it did not set up.
+ *
+ * @param <T> repository interface type
+ */
+public final class StandInRepository<T> {
+
+    private final Class<T> type;
+    private final Map<String, Function<Object[], Object>> handlers = new HashMap<>();
+
+    private StandInRepository(Class<T> type) {
+        this.type = type;
+    }
+
+    public static <T> StandInRepository<T> of(Class<T> type) {
+        return new StandInRepository<>(type);
+    }
+
+    /**
+     * Answer calls to a repository method by name.
+     *
+     * @param methodName name of the repository method
+     * @param handler computes the return value from the call arguments
+     */
+    public StandInRepository<T> on(String methodName, Function<Object[], Object> handler) {
+        handlers.put(methodName, handler);
+        return this;
+    }
+
+    public T build() {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return "StandIn(" + type.getSimpleName() + ")";
+                case "hashCode":
+                    return System.identityHashCode(self);
+                case "equals":
+                    return self == args[0];
+                default:
+                    break;
+            }
+            Function<Object[], Object> handler = handlers.get(method.getName());
+            if (handler == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+            }
+            return handler.apply(args);
+        });
+        return type.cast(proxy);
+    }
+}
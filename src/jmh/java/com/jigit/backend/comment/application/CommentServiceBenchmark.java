@@ -0,0 +1,65 @@
+package com.jigit.backend.comment.application;
+
+import com.jigit.backend.benchmark.Fixtures;
+import com.jigit.backend.benchmark.StandInRepository;
+import com.jigit.backend.comment.domain.CommentRepository;
+import com.jigit.backend.comment.domain.CommentSummary;
+import com.jigit.backend.comment.presentation.dto.CommentListResponse;
+import com.jigit.backend.poll.application.PollCreatedEvent;
+import com.jigit.backend.poll.application.PollMetadataCache;
+import com.jigit.backend.poll.domain.OptionRepository;
+import com.jigit.backend.poll.domain.PollRepository;
+import com.jigit.backend.user.domain.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CommentService.getComments DTO mapping and cursor computation for one page.
+ * Repositories are in-memory stand-ins, so only the service-side assembly is measured.
+ */
+@State(Scope.Benchmark)
+public class CommentServiceBenchmark {
+
+    private static final long POLL_ID = 1L;
+    private static final int OPTION_COUNT = 4;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private CommentService commentService;
+
+    @Setup
+    public void setUp() {
+        // One row more than the page so a next cursor is produced; every other author has voted
+        List<CommentSummary> comments = new ArrayList<>();
+        for (int i = 0; i <= pageSize; i++) {
+            Long votedOptionId = i % 2 == 0 ? (long) (i % OPTION_COUNT) + 1 : null;
+            comments.add(Fixtures.comment(i + 1L, i + 2L, votedOptionId));
+        }
+
+        PollRepository pollRepository = StandInRepository.of(PollRepository.class).build();
+        PollMetadataCache pollMetadataCache = new PollMetadataCache(
+                pollRepository, StandInRepository.of(OptionRepository.class).build(), 1_000, 60, 10);
+        pollMetadataCache.onPollCreated(new PollCreatedEvent(POLL_ID, true, 1L, List.of(1L, 2L, 3L, 4L)));
+
+        commentService = new CommentService(
+                StandInRepository.of(CommentRepository.class)
+                        .on("findNewestByPollId", args -> comments)
+                        .build(),
+                pollRepository,
+                StandInRepository.of(UserRepository.class).build(),
+                pollMetadataCache
+        );
+    }
+
+    @Benchmark
+    public CommentListResponse getComments() {
+        return commentService.getComments(POLL_ID, "newest", null, pageSize);
+    }
+}
@@ -0,0 +1,40 @@
+package com.jigit.backend.global.util;
+
+import com.jigit.backend.global.auth.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Token verification cost on every authenticated request.
+ * Compares a full HMAC parse with a hit in the verified-token cache.
+ */
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-256-bits-long";
+    private static final long EXPIRATION_MS = 3_600_000L;
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, EXPIRATION_MS);
+        token = jwtUtil.generateToken(42L);
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), 10_000);
+    }
+
+    @Benchmark
+    public Long getUserIdFromToken() {
+        return jwtUtil.getUserIdFromToken(token);
+    }
+
+    @Benchmark
+    public Long cachedGetUserId() {
+        return verifiedTokenCache.getUserId(token);
+    }
+}
@@ -0,0 +1,82 @@
+package com.jigit.backend.poll.application;
+
+import com.jigit.backend.benchmark.Fixtures;
+import com.jigit.backend.benchmark.StandInRepository;
+import com.jigit.backend.poll.domain.OptionRepository;
+import com.jigit.backend.poll.domain.OptionSummary;
+import com.jigit.backend.poll.domain.PollRepository;
+import com.jigit.backend.poll.domain.PollSummary;
+import com.jigit.backend.poll.presentation.dto.PollListResponse;
+import com.jigit.backend.user.domain.UserRepository;
+import com.jigit.backend.vote.application.VoteCountBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PollService.getPublicPolls page assembly: grouping options by poll,
+ * overlaying buffered vote counts and building the response DTOs.
+ */
+@State(Scope.Benchmark)
+public class PollServiceBenchmark {
+
+    private static final int OPTIONS_PER_POLL = 4;
+    private static final long TOTAL_PUBLIC_POLLS = 10_000L;
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private PollService pollService;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        List<PollSummary> polls = new ArrayList<>();
+        List<OptionSummary> options = new ArrayList<>();
+        long optionId = 1L;
+        for (int i = 0; i < pageSize; i++) {
+            long pollId = i + 1L;
+            polls.add(Fixtures.poll(pollId, 1L));
+            for (int order = 1; order <= OPTIONS_PER_POLL; order++) {
+                options.add(Fixtures.option(optionId++, pollId, order, order * 3));
+            }
+        }
+
+        pageable = PageRequest.of(0, pageSize);
+        Page<PollSummary> page = new PageImpl<>(polls, pageable, TOTAL_PUBLIC_POLLS);
+
+        OptionRepository optionRepository = StandInRepository.of(OptionRepository.class)
+                .on("findSummariesByPollIds", args -> options)
+                .build();
+
+        VoteCountBuffer voteCountBuffer = new VoteCountBuffer(optionRepository, null);
+        // Some votes still waiting for the next flush
+        for (int i = 0; i < options.size(); i += 3) {
+            voteCountBuffer.add(options.get(i).getOptionId(), 1);
+        }
+
+        pollService = new PollService(
+                StandInRepository.of(PollRepository.class)
+                        .on("findPublicSummaries", args -> page)
+                        .build(),
+                optionRepository,
+                StandInRepository.of(UserRepository.class).build(),
+                voteCountBuffer,
+                event -> { }
+        );
+    }
+
+    @Benchmark
+    public PollListResponse getPublicPolls() {
+        return pollService.getPublicPolls(pageable);
+    }
+}
@@ -0,0 +1,96 @@
+package com.jigit.backend.vote.application;
+
+import com.jigit.backend.benchmark.Fixtures;
+import com.jigit.backend.benchmark.StandInRepository;
+import com.jigit.backend.poll.application.PollMetadataCache;
+import com.jigit.backend.poll.domain.OptionRepository;
+import com.jigit.backend.poll.domain.OptionSummary;
+import com.jigit.backend.poll.domain.PollRepository;
+import com.jigit.backend.poll.domain.PollSummary;
+import com.jigit.backend.user.domain.UserRepository;
+import com.jigit.backend.vote.domain.VoteRepository;
+import com.jigit.backend.vote.presentation.dto.PollResultsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * VoteService.getPollResults percentage aggregation.
+ * Covers an unchanged read served from the cached snapshot, a read right after a vote
+ * (recomputes percentages) and a cold load that assembles the tally from the repositories.
+ */
+@State(Scope.Benchmark)
+public class PollResultsBenchmark {
+
+    private static final long POLL_ID = 1L;
+
+    @Param({"4", "20"})
+    public int optionCount;
+
+    private VoteService voteService;
+    private PollResultsCache pollResultsCache;
+    private VoteSubmittedEvent vote;
+    private VoteSubmittedEvent unknownOptionVote;
+
+    @Setup
+    public void setUp() {
+        PollSummary poll = Fixtures.poll(POLL_ID, 1L);
+        List<OptionSummary> options = new ArrayList<>();
+        for (int i = 0; i < optionCount; i++) {
+            options.add(Fixtures.option(i + 1L, POLL_ID, i + 1, 100 + i * 7));
+        }
+
+        OptionRepository optionRepository = StandInRepository.of(OptionRepository.class)
+                .on("findSummariesByPollId", args -> options)
+                .build();
+        PollRepository pollRepository = StandInRepository.of(PollRepository.class)
+                .on("findSummaryById", args -> Optional.of(poll))
+                .build();
+
+        pollResultsCache = new PollResultsCache(10_000, 3_600);
+        VoteRepository voteRepository = StandInRepository.of(VoteRepository.class).build();
+        voteService = new VoteService(
+                voteRepository,
+                optionRepository,
+                pollRepository,
+                StandInRepository.of(UserRepository.class).build(),
+                new VoteCountBuffer(optionRepository, null),
+                pollResultsCache,
+                event -> { },
+                null,
+                new PollMetadataCache(pollRepository, optionRepository, 1_000, 60, 10),
+                new VoterFilterCache(voteRepository, new SimpleMeterRegistry(), false, 1_000, 30, 0.01, 1_024),
+                new VoteMetrics(new SimpleMeterRegistry(), 10)
+        );
+        vote = new VoteSubmittedEvent(POLL_ID, options.get(0).getOptionId(), 2L);
+        unknownOptionVote = new VoteSubmittedEvent(POLL_ID, -1L, 2L);
+
+        // Warm the cache so reads start from a computed snapshot
+        voteService.getPollResults(POLL_ID);
+    }
+
+    @Benchmark
+    public PollResultsResponse unchangedRead() {
+        return voteService.getPollResults(POLL_ID);
+    }
+
+    @Benchmark
+    public PollResultsResponse readAfterVote() {
+        pollResultsCache.onVoteSubmitted(vote);
+        return voteService.getPollResults(POLL_ID);
+    }
+
+    @Benchmark
+    public PollResultsResponse coldLoad() {
+        // A vote for an unknown option drops the cached tally, so the next read reloads it
+        pollResultsCache.onVoteSubmitted(unknownOptionVote);
+        return voteService.getPollResults(POLL_ID);
+    }
+}
@@ -0,0 +1,42 @@
+package com.jigit.backend.vote.application;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * VoterBloomFilter lookups for voters and non-voters on a filter filled to half capacity,
+ * the sizing VoterFilterCache uses when it builds a filter.
+ */
+@State(Scope.Benchmark)
+public class VoterBloomFilterBenchmark {
+
+    @Param({"1000", "100000"})
+    public int voterCount;
+
+    private VoterBloomFilter filter;
+    private long next;
+
+    @Setup
+    public void setUp() {
+        filter = new VoterBloomFilter(voterCount * 2L, 0.01);
+        for (long userId = 1; userId <= voterCount; userId++) {
+            filter.add(userId);
+        }
+        filter.markReady();
+    }
+
+    @Benchmark
+    public boolean voter() {
+        next = next % voterCount + 1;
+        return filter.mightContain(next);
+    }
+
+    @Benchmark
+    public boolean nonVoter() {
+        next++;
+        return filter.mightContain(voterCount + next);
+    }
+}
@@ -2,27 +2,26 @@ package com.jigit.backend.comment.application;
 
 import com.jigit.backend.comment.domain.Comment;
 import com.jigit.backend.comment.domain.CommentRepository;
+import com.jigit.backend.comment.domain.CommentSummary;
 import com.jigit.backend.comment.exception.CommentException;
 import com.jigit.backend.comment.presentation.dto.CommentListResponse;
 import com.jigit.backend.comment.presentation.dto.CommentResponse;
 import com.jigit.backend.comment.presentation.dto.CreateCommentResponse;
 import com.jigit.backend.global.exception.ApplicationException;
+import com.jigit.backend.global.util.KeysetCursor;
+import com.jigit.backend.poll.application.PollMetadataCache;
 import com.jigit.backend.poll.domain.Poll;
 import com.jigit.backend.poll.domain.PollRepository;
-import com.jigit.backend.poll.exception.PollException;
 import com.jigit.backend.user.domain.User;
 import com.jigit.backend.user.domain.UserRepository;
 import com.jigit.backend.user.exception.UserException;
-import com.jigit.backend.vote.domain.Vote;
-import com.jigit.backend.vote.domain.VoteRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -35,10 +34,12 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final PollRepository pollRepository;
     private final UserRepository userRepository;
-    private final VoteRepository voteRepository;
+    private final PollMetadataCache pollMetadataCache;
 
     /**
      * Create a new comment on a poll.
@@ -59,9 +60,9 @@ public class CommentService {
             throw new ApplicationException(CommentException.INVALID_COMMENT_CONTENT);
         }
 
-        // 2. Validate poll exists
-        Poll poll = pollRepository.findById(pollId)
-                .orElseThrow(() -> new ApplicationException(PollException.POLL_NOT_FOUND));
+        // 2. Validate poll exists (memory lookup) and attach it without a SELECT
+        pollMetadataCache.getRequired(pollId);
+        Poll poll = pollRepository.getReferenceById(pollId);
 
         // 3. Validate user exists
         User author = userRepository.findById(userId)
@@ -87,63 +88,67 @@ public class CommentService {
     }
 
     /**
-     * Get all comments for a poll with author's voting information.
+     * Get a page of comments for a poll with author's voting information.
      * Includes votedOptionId for each comment to show which option the commenter voted for.
+     * Uses keyset pagination on (createdAt, commentId), so every page costs the same.
+     * Each page is read with one projection query joining the author and the author's vote,
+     * so no entities are loaded.
      *
      * @param pollId ID of the poll
      * @param sortBy Sort order ("newest" or "oldest", defaults to "newest")
-     * @return CommentListResponse with comments and voter information
-     * @throws ApplicationException if poll not found
+     * @param cursor cursor returned by the previous page, or null for the first page
+     * @param size page size (clamped to 1..100)
+     * @return CommentListResponse with comments, voter information and the next cursor
+     * @throws ApplicationException if poll not found or the cursor is malformed
      */
-    public CommentListResponse getComments(Long pollId, String sortBy) {
-        // 1. Validate poll exists
-        if (!pollRepository.existsById(pollId)) {
-            throw new ApplicationException(PollException.POLL_NOT_FOUND);
-        }
-
-        // 2. Fetch comments based on sort order
-        List<Comment> comments;
-        if ("oldest".equalsIgnoreCase(sortBy)) {
-            comments = commentRepository.findByPoll_PollIdOrderByCreatedAtAsc(pollId);
-        } else {
-            // Default to newest
-            comments = commentRepository.findByPoll_PollIdOrderByCreatedAtDesc(pollId);
+    public CommentListResponse getComments(Long pollId, String sortBy, String cursor, int size) {
+        // 1. Validate poll exists (memory lookup)
+        pollMetadataCache.getRequired(pollId);
+
+        // 2. Fetch one page (plus one extra comment to detect the next page) based on sort order
+        //    Each row already carries the author's username and voted option
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<CommentSummary> comments = findCommentPage(pollId, sortBy, cursor, Limit.of(pageSize + 1));
+
+        boolean hasNext = comments.size() > pageSize;
+        List<CommentSummary> pageComments = hasNext ? comments.subList(0, pageSize) : comments;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentSummary last = pageComments.get(pageComments.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getCommentId()).encode();
         }
 
-        // 3. Batch fetch all votes for comment authors to prevent N+1 query
-        List<Long> authorIds = comments.stream()
-                .map(comment -> comment.getAuthor().getUserId())
-                .distinct()
+        // 3. Map comments to response DTOs with voter information
+        List<CommentResponse> commentResponses = pageComments.stream()
+                .map(comment -> new CommentResponse(
+                        comment.getCommentId(),
+                        comment.getAuthorId(),
+                        comment.getAuthorUsername(),
+                        comment.getContent(),
+                        comment.getVotedOptionId(),
+                        comment.getCreatedAt()
+                ))
                 .collect(Collectors.toList());
 
-        Map<Long, Vote> voteMap = voteRepository.findByPoll_PollIdAndVoter_UserIdIn(pollId, authorIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        vote -> vote.getVoter().getUserId(),
-                        vote -> vote
-                ));
-
-        // 4. Map comments to response DTOs with voter information
-        List<CommentResponse> commentResponses = comments.stream()
-                .map(comment -> {
-                    Long authorId = comment.getAuthor().getUserId();
-                    String authorUsername = comment.getAuthor().getUsername();
-
-                    // Lookup vote from pre-fetched map
-                    Vote vote = voteMap.get(authorId);
-                    Long votedOptionId = vote != null ? vote.getOption().getOptionId() : null;
-
-                    return new CommentResponse(
-                            comment.getCommentId(),
-                            authorId,
-                            authorUsername,
-                            comment.getContent(),
-                            votedOptionId,
-                            comment.getCreatedAt()
-                    );
-                })
-                .collect(Collectors.toList());
+        return new CommentListResponse(commentResponses, nextCursor, hasNext);
+    }
+
+    /**
+     * Fetch a page of comments in the requested order, starting after the cursor position
+     */
+    private List<CommentSummary> findCommentPage(Long pollId, String sortBy, String cursor, Limit limit) {
+        boolean oldestFirst = "oldest".equalsIgnoreCase(sortBy);
+
+        if (cursor == null || cursor.isBlank()) {
+            return oldestFirst
+                    ? commentRepository.findOldestByPollId(pollId, limit)
+                    : commentRepository.findNewestByPollId(pollId, limit);
+        }
 
-        return new CommentListResponse(commentResponses);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        return oldestFirst
+                ? commentRepository.findOldestByPollIdAfter(pollId, position.getCreatedAt(), position.getId(), limit)
+                : commentRepository.findNewestByPollIdAfter(pollId, position.getCreatedAt(), position.getId(), limit);
     }
 }
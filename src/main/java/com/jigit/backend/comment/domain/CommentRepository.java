@@ -1,30 +1,86 @@
 package com.jigit.backend.comment.domain;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * Repository interface for Comment entity.
  * Provides database access methods for comment records.
+ * Read paths return CommentSummary projections instead of managed entities.
  */
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /**
-     * Find all comments for a specific poll, ordered by creation time (newest first).
+     * Comment columns with the author's username and the option the author voted for.
+     * Joins users for the username and left-joins the author's vote on the same poll
+     * (at most one per the voter/poll unique constraint), so a page is a single query.
+     */
+    String SUMMARY_SELECT = "SELECT c.commentId AS commentId, a.userId AS authorId, a.username AS authorUsername, "
+            + "c.content AS content, v.option.optionId AS votedOptionId, c.createdAt AS createdAt "
+            + "FROM Comment c JOIN c.author a "
+            + "LEFT JOIN Vote v ON v.poll.pollId = c.poll.pollId AND v.voter.userId = a.userId ";
+
+    /**
+     * Find the first page of comments for a poll, newest first.
+     * Served by the (poll_id, created_at, comment_id) index.
+     *
+     * @param pollId ID of the poll
+     * @param limit maximum number of comments to return
+     * @return comments ordered by createdAt and commentId descending
+     */
+    @Query(SUMMARY_SELECT + "WHERE c.poll.pollId = :pollId "
+            + "ORDER BY c.createdAt DESC, c.commentId DESC")
+    List<CommentSummary> findNewestByPollId(@Param("pollId") Long pollId, Limit limit);
+
+    /**
+     * Find the comments for a poll that come after a keyset position, newest first.
+     *
+     * @param pollId ID of the poll
+     * @param createdAt creation timestamp of the last comment on the previous page
+     * @param commentId ID of the last comment on the previous page
+     * @param limit maximum number of comments to return
+     * @return comments older than the given position, ordered by createdAt and commentId descending
+     */
+    @Query(SUMMARY_SELECT + "WHERE c.poll.pollId = :pollId "
+            + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.commentId < :commentId)) "
+            + "ORDER BY c.createdAt DESC, c.commentId DESC")
+    List<CommentSummary> findNewestByPollIdAfter(@Param("pollId") Long pollId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("commentId") Long commentId,
+                                          Limit limit);
+
+    /**
+     * Find the first page of comments for a poll, oldest first.
      *
      * @param pollId ID of the poll
-     * @return List of comments ordered by createdAt descending
+     * @param limit maximum number of comments to return
+     * @return comments ordered by createdAt and commentId ascending
      */
-    List<Comment> findByPoll_PollIdOrderByCreatedAtDesc(Long pollId);
+    @Query(SUMMARY_SELECT + "WHERE c.poll.pollId = :pollId "
+            + "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<CommentSummary> findOldestByPollId(@Param("pollId") Long pollId, Limit limit);
 
     /**
-     * Find all comments for a specific poll, ordered by creation time (oldest first).
+     * Find the comments for a poll that come after a keyset position, oldest first.
      *
      * @param pollId ID of the poll
-     * @return List of comments ordered by createdAt ascending
+     * @param createdAt creation timestamp of the last comment on the previous page
+     * @param commentId ID of the last comment on the previous page
+     * @param limit maximum number of comments to return
+     * @return comments newer than the given position, ordered by createdAt and commentId ascending
      */
-    List<Comment> findByPoll_PollIdOrderByCreatedAtAsc(Long pollId);
+    @Query(SUMMARY_SELECT + "WHERE c.poll.pollId = :pollId "
+            + "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.commentId > :commentId)) "
+            + "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<CommentSummary> findOldestByPollIdAfter(@Param("pollId") Long pollId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("commentId") Long commentId,
+                                          Limit limit);
 }
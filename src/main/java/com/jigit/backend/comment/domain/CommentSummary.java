@@ -0,0 +1,25 @@
+package com.jigit.backend.comment.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a comment with its author and the author's vote on the poll.
+ * Returned by read queries so no managed Comment, User or Vote entity is created.
+ */
+public interface CommentSummary {
+
+    Long getCommentId();
+
+    Long getAuthorId();
+
+    String getAuthorUsername();
+
+    String getContent();
+
+    /**
+     * @return ID of the option the author voted for, or null if the author has not voted
+     */
+    Long getVotedOptionId();
+
+    LocalDateTime getCreatedAt();
+}
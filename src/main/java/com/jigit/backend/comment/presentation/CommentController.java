@@ -42,20 +42,24 @@ public class CommentController implements CommentControllerDocs {
     }
 
     /**
-     * Get all comments for a poll with author's voting information.
+     * Get a cursor-paginated page of comments for a poll with author's voting information.
      * Public endpoint - no authentication required.
      *
      * @param pollId ID of the poll
      * @param sortBy Sort order (optional: "newest" or "oldest", defaults to "newest")
-     * @return ResponseEntity with list of comments including voter information
+     * @param cursor cursor from the previous page (omit for the first page)
+     * @param size page size
+     * @return ResponseEntity with a page of comments including voter information
      */
     @Override
     @GetMapping("/{pollId}/comments")
     public ResponseEntity<CommentListResponse> getComments(
             @PathVariable Long pollId,
-            @RequestParam(required = false, defaultValue = "newest") String sortBy
+            @RequestParam(required = false, defaultValue = "newest") String sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
-        CommentListResponse response = commentService.getComments(pollId, sortBy);
+        CommentListResponse response = commentService.getComments(pollId, sortBy, cursor, size);
         return ResponseEntity.ok(response);
     }
 }
@@ -64,17 +64,22 @@ public interface CommentControllerDocs {
     @Operation(
             summary = "댓글 목록 조회",
             description = """
-                    투표의 모든 댓글을 조회합니다. 각 댓글에는 작성자가 투표한 옵션 정보도 포함됩니다. 인증 불필요.
+                    투표의 댓글을 커서 기반 페이지네이션으로 조회합니다. 각 댓글에는 작성자가 투표한 옵션 정보도 포함됩니다. 인증 불필요.
+
+                    응답의 `hasNext`가 true이면 `nextCursor` 값을 `cursor`로 전달하여 다음 페이지를 조회합니다.
+                    커서는 같은 `sortBy` 값과 함께 사용해야 합니다.
 
                     **Query Parameters:**
                     - `sortBy`: 정렬 순서 (기본값: "newest")
                       - `newest`: 최신순 (최근 작성된 댓글이 먼저)
                       - `oldest`: 오래된순 (오래 전 작성된 댓글이 먼저)
+                    - `cursor`: 이전 응답의 `nextCursor` 값 (첫 페이지는 생략)
+                    - `size`: 페이지당 항목 수 (기본값: 20, 최대: 100)
 
                     **사용 예시:**
-                    - `/api/polls/1/comments` - 최신순 정렬 (기본값)
-                    - `/api/polls/1/comments?sortBy=newest` - 최신순 정렬
-                    - `/api/polls/1/comments?sortBy=oldest` - 오래된순 정렬
+                    - `/api/polls/1/comments` - 최신순 정렬 (기본값), 첫 페이지
+                    - `/api/polls/1/comments?sortBy=oldest&size=50` - 오래된순 정렬, 50개씩
+                    - `/api/polls/1/comments?sortBy=oldest&cursor={nextCursor}` - 오래된순 다음 페이지
                     """
     )
     @ApiResponses({
@@ -83,6 +88,11 @@ public interface CommentControllerDocs {
                     description = "댓글 목록 조회 성공",
                     content = @Content(schema = @Schema(implementation = CommentListResponse.class))
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 커서",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "투표를 찾을 수 없음",
@@ -96,6 +106,10 @@ public interface CommentControllerDocs {
                     description = "정렬 순서 (newest: 최신순, oldest: 오래된순)",
                     example = "newest"
             )
-            @RequestParam(required = false, defaultValue = "newest") String sortBy
+            @RequestParam(required = false, defaultValue = "newest") String sortBy,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지당 항목 수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size
     );
 }
@@ -13,4 +13,11 @@ public class CommentListResponse {
 
     @Schema(description = "List of comments")
     private List<CommentResponse> comments;
+
+    @Schema(description = "Cursor for the next page (null if there are no more comments)",
+            example = "MjAyNS0xMS0yNlQxMDozMDp8NDI", nullable = true)
+    private String nextCursor;
+
+    @Schema(description = "Whether more comments are available", example = "true")
+    private Boolean hasNext;
 }
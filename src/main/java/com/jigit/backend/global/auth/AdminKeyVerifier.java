@@ -0,0 +1,39 @@
+package com.jigit.backend.global.auth;
+
+import com.jigit.backend.global.exception.ApplicationException;
+import com.jigit.backend.global.exception.CommonException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Guards internal admin endpoints (e.g. bulk vote import) with a shared key sent in the
+ * X-Admin-Key header. Admin endpoints are disabled while admin.api-key is empty.
+ * Keys are compared in constant time.
+ */
+@Component
+public class AdminKeyVerifier {
+
+    public static final String HEADER = "X-Admin-Key";
+
+    private final byte[] apiKey;
+
+    public AdminKeyVerifier(@Value("${admin.api-key:}") String apiKey) {
+        this.apiKey = apiKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Verify the key sent with an admin request.
+     *
+     * @param providedKey value of the X-Admin-Key header, or null if missing
+     * @throws ApplicationException if admin endpoints are disabled or the key does not match
+     */
+    public void verify(String providedKey) {
+        if (apiKey.length == 0 || providedKey == null
+                || !MessageDigest.isEqual(apiKey, providedKey.getBytes(StandardCharsets.UTF_8))) {
+            throw new ApplicationException(CommonException.FORBIDDEN);
+        }
+    }
+}
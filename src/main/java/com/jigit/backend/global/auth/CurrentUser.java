@@ -9,10 +9,16 @@ import java.lang.annotation.Target;
 /**
  * Annotation to inject the current authenticated user's ID into controller methods.
  * Must be used with Long parameter type.
- * Requires valid JWT token in Authorization header.
+ * Requires valid JWT token in Authorization header, unless required is false.
  */
 @Target(ElementType.PARAMETER)
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface CurrentUser {
-}
\ No newline at end of file
+
+    /**
+     * Whether a token is required. If false, requests without an Authorization header
+     * resolve to null; an invalid token is still rejected.
+     */
+    boolean required() default true;
+}
@@ -21,6 +21,7 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /**
      * Check if this resolver supports the given parameter.
@@ -34,7 +35,7 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
 
     /**
      * Resolve the argument by extracting user ID from JWT token.
-     * Throws ApplicationException if token is missing or invalid.
+     * Throws ApplicationException if token is invalid, or missing when required.
      */
     @Override
     public Object resolveArgument(MethodParameter parameter,
@@ -47,12 +48,18 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
         // Extract token from Authorization header
         String token = jwtUtil.extractTokenFromHeader(authHeader);
 
-        // Validate token exists and is valid
-        if (token == null || !jwtUtil.validateToken(token)) {
+        if (token == null) {
+            if (!parameter.getParameterAnnotation(CurrentUser.class).required()) {
+                return null;
+            }
             throw new ApplicationException(UserException.UNAUTHORIZED);
         }
 
-        // Extract and return user ID from token
-        return jwtUtil.getUserIdFromToken(token);
+        // Validate token and extract user ID in one pass (cached per token)
+        try {
+            return verifiedTokenCache.getUserId(token);
+        } catch (ApplicationException e) {
+            throw new ApplicationException(UserException.UNAUTHORIZED);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.jigit.backend.global.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.jigit.backend.global.exception.ApplicationException;
+import com.jigit.backend.global.util.JwtUtil;
+import com.jigit.backend.global.util.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of verified JWT principals.
+ * Keyed by the SHA-256 digest of the token so raw tokens are never held in memory,
+ * and each entry expires together with its token. A repeated request with the same
+ * token costs one digest and one hash lookup instead of an HMAC verification.
+ * Only successfully verified tokens are cached.
+ * Hit rates are exported as cache metrics (cache=verified_tokens) and each verification
+ * on a miss is recorded in the auth.jwt.verification timer, tagged with its outcome.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final Duration MAX_LIFETIME = Duration.ofDays(365);
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, VerifiedToken> cache;
+    private final Timer validVerifications;
+    private final Timer invalidVerifications;
+
+    public VerifiedTokenCache(
+            JwtUtil jwtUtil,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.verified-cache.maximum-size:10000}") long maximumSize
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.validVerifications = verificationTimer("valid", meterRegistry);
+        this.invalidVerifications = verificationTimer("invalid", meterRegistry);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                        return remainingLifetimeNanos(token);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return remainingLifetimeNanos(token);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verified_tokens");
+    }
+
+    /**
+     * Resolve the user ID of a token, verifying it only on a cache miss.
+     *
+     * @param token the JWT token string
+     * @return the user ID of the token
+     * @throws ApplicationException if token is invalid or expired
+     */
+    public Long getUserId(String token) {
+        return cache.get(digest(token), key -> verify(token)).getUserId();
+    }
+
+    private VerifiedToken verify(String token) {
+        long start = System.nanoTime();
+        try {
+            VerifiedToken verified = jwtUtil.verifyToken(token);
+            validVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return verified;
+        } catch (ApplicationException e) {
+            invalidVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private static Timer verificationTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("auth.jwt.verification")
+                .description("Time spent verifying JWT signatures on verified-token cache misses")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static long remainingLifetimeNanos(VerifiedToken token) {
+        Duration remaining = Duration.between(Instant.now(), token.getExpiresAt());
+        if (remaining.isNegative()) {
+            return 0L;
+        }
+        // Tokens without an expiry are kept until evicted by size
+        return remaining.compareTo(MAX_LIFETIME) > 0 ? MAX_LIFETIME.toNanos() : remaining.toNanos();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.jigit.backend.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling configuration
+ * Enables @Scheduled background jobs such as vote count flushing
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
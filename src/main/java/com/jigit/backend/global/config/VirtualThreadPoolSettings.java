@@ -0,0 +1,45 @@
+package com.jigit.backend.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fail-fast connection pool settings for virtual-thread mode.
+ * With platform threads the Tomcat thread cap already bounds how many requests wait for
+ * a connection, so the Hikari defaults apply. With virtual threads there is no such cap,
+ * so every Hikari pool is sized from virtual-threads.db-pool.* and callers give up after
+ * a short connection timeout instead of queueing without bound.
+ * Replica pools copy the primary's settings, so they follow automatically.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPoolSettings implements BeanPostProcessor {
+
+    private final Environment environment;
+
+    public VirtualThreadPoolSettings(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            int maximumSize = environment.getProperty("virtual-threads.db-pool.maximum-size", Integer.class, 20);
+            long connectionTimeoutMs = environment.getProperty(
+                    "virtual-threads.db-pool.connection-timeout-ms", Long.class, 3000L);
+            // Binding has run by now, and the pool starts on the first connection request
+            dataSource.setMaximumPoolSize(maximumSize);
+            dataSource.setMinimumIdle(maximumSize);
+            dataSource.setConnectionTimeout(connectionTimeoutMs);
+            log.info("Connection pool sized for virtual threads - Pool: {}, MaximumSize: {}, ConnectionTimeoutMs: {}",
+                    beanName, maximumSize, connectionTimeoutMs);
+        }
+        return bean;
+    }
+}
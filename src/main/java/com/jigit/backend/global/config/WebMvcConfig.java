@@ -1,9 +1,13 @@
 package com.jigit.backend.global.config;
 
 import com.jigit.backend.global.auth.CurrentUserArgumentResolver;
+import com.jigit.backend.global.datasource.ReadYourWritesInterceptor;
+import com.jigit.backend.global.metrics.QueryCountInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -16,6 +20,8 @@ import java.util.List;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final QueryCountInterceptor queryCountInterceptor;
+    private final ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor;
 
     /**
      * Register custom argument resolvers.
@@ -25,4 +31,15 @@ public class WebMvcConfig implements WebMvcConfigurer {
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(currentUserArgumentResolver);
     }
-}
\ No newline at end of file
+
+    /**
+     * Register interceptors.
+     * Adds QueryCountInterceptor to track SQL statements and JDBC time per controller operation,
+     * and ReadYourWritesInterceptor when read/write splitting is enabled.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryCountInterceptor);
+        readYourWritesInterceptor.ifAvailable(registry::addInterceptor);
+    }
+}
@@ -0,0 +1,50 @@
+package com.jigit.backend.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins reads on the current thread to the primary database when read/write splitting is enabled.
+ * Used for users inside their read-your-writes window and for loads that seed caches which
+ * are then kept current by commit events, where a lagging replica snapshot would never be corrected.
+ * Has no effect without datasource.routing.enabled=true.
+ */
+public final class PrimaryRouting {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryRouting() {
+    }
+
+    /**
+     * Pin reads on the current thread to the primary until unpin() is called.
+     */
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    /**
+     * Run work with reads pinned to the primary, restoring the previous state afterwards.
+     *
+     * @param work the work to run
+     * @return the work's result
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        if (isPinned()) {
+            return work.get();
+        }
+        pin();
+        try {
+            return work.get();
+        } finally {
+            unpin();
+        }
+    }
+}
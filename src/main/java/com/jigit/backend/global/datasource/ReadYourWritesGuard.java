@@ -0,0 +1,53 @@
+package com.jigit.backend.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Replica-lag guard for read/write splitting.
+ * Users who completed a write within the last read-your-writes window have their requests
+ * pinned to the primary (see PrimaryRouting), so e.g. /voted and /results reflect a vote the user just cast
+ * even when replicas lag behind.
+ *
+ * Recent writers are tracked in this instance's memory only. With several application instances
+ * the guarantee holds only if a user's requests stick to one instance (sticky sessions at the
+ * load balancer); a read that lands on another instance within the window may hit a lagging replica.
+ */
+@Component
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReadYourWritesGuard {
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesGuard(
+            @Value("${datasource.routing.read-your-writes-window-ms:5000}") long windowMillis,
+            @Value("${datasource.routing.read-your-writes-max-users:100000}") long maximumUsers
+    ) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maximumUsers)
+                .expireAfterWrite(Duration.ofMillis(windowMillis))
+                .build();
+    }
+
+    /**
+     * Remember that a user just wrote, restarting their window.
+     *
+     * @param userId ID of the user
+     */
+    public void recordWrite(Long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    /**
+     * @param userId ID of the user
+     * @return true if the user wrote within the window
+     */
+    public boolean hasRecentWrite(Long userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,70 @@
+package com.jigit.backend.global.datasource;
+
+import com.jigit.backend.global.auth.VerifiedTokenCache;
+import com.jigit.backend.global.exception.ApplicationException;
+import com.jigit.backend.global.util.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Set;
+
+/**
+ * Applies ReadYourWritesGuard to authenticated requests.
+ * A successful POST/PUT/PATCH/DELETE starts the user's read-your-writes window;
+ * any request from a user inside the window is pinned to the primary.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final String USER_ID_ATTRIBUTE = ReadYourWritesInterceptor.class.getName() + ".userId";
+
+    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final ReadYourWritesGuard readYourWritesGuard;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Long userId = resolveUserId(request);
+        if (userId != null) {
+            request.setAttribute(USER_ID_ATTRIBUTE, userId);
+            if (readYourWritesGuard.hasRecentWrite(userId)) {
+                PrimaryRouting.pin();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        PrimaryRouting.unpin();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        PrimaryRouting.unpin();
+        Object userId = request.getAttribute(USER_ID_ATTRIBUTE);
+        if (userId != null && ex == null && response.getStatus() < 400 && WRITE_METHODS.contains(request.getMethod())) {
+            readYourWritesGuard.recordWrite((Long) userId);
+        }
+    }
+
+    private Long resolveUserId(HttpServletRequest request) {
+        String token = jwtUtil.extractTokenFromHeader(request.getHeader("Authorization"));
+        if (token == null) {
+            return null;
+        }
+        try {
+            return verifiedTokenCache.getUserId(token);
+        } catch (ApplicationException e) {
+            // Invalid tokens are rejected by the endpoint itself
+            return null;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.jigit.backend.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions to replicas (round robin) and everything else to the primary.
+ * Must be wrapped in a LazyConnectionDataSourceProxy so the connection is only fetched after
+ * the transaction's read-only flag is set.
+ * Threads pinned with PrimaryRouting read from the primary even in read-only transactions.
+ * Routing decisions are counted in datasource.routing.connections{route, reason}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+
+    private final List<DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final Counter writeRoutes;
+    private final Counter pinnedRoutes;
+    private final Counter replicaRoutes;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.replicaKeys = new ArrayList<>();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + (i + 1);
+            replicaKeys.add(key);
+            targets.put(key, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.writeRoutes = routeCounter(PRIMARY, "write", meterRegistry);
+        this.pinnedRoutes = routeCounter(PRIMARY, "pinned", meterRegistry);
+        this.replicaRoutes = routeCounter("replica", "read_only", meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || replicaKeys.isEmpty()) {
+            writeRoutes.increment();
+            return PRIMARY;
+        }
+        if (PrimaryRouting.isPinned()) {
+            pinnedRoutes.increment();
+            return PRIMARY;
+        }
+        replicaRoutes.increment();
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    /**
+     * Close the replica pools, which are not beans of their own.
+     */
+    @Override
+    public void destroy() throws IOException {
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static Counter routeCounter(String route, String reason, MeterRegistry meterRegistry) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Connections handed out per route")
+                .tag("route", route)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
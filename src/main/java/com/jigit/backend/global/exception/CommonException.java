@@ -10,6 +10,7 @@ public enum CommonException implements ExceptionCode {
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "Unauthorized", "Authentication is required."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "Forbidden", "You do not have permission to access this resource."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "Not Found", "The requested resource was not found."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "Invalid Cursor", "The pagination cursor is invalid or malformed."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", "An unexpected error occurred.");
 
     private final HttpStatus httpStatus;
@@ -0,0 +1,52 @@
+package com.jigit.backend.global.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * Exports the asynchronous log appenders configured in logback-spring.xml:
+ * logback.async.discarded counts DEBUG/INFO events dropped under pressure and
+ * logback.async.queue.size / logback.async.queue.remaining show queue depth,
+ * each tagged with the appender name.
+ */
+@Component
+public class AsyncAppenderMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+            return;
+        }
+        Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        for (Iterator<Appender<ILoggingEvent>> it = root.iteratorForAppenders(); it.hasNext(); ) {
+            if (it.next() instanceof MeteredAsyncAppender appender) {
+                bind(appender, registry);
+            }
+        }
+    }
+
+    private void bind(MeteredAsyncAppender appender, MeterRegistry registry) {
+        FunctionCounter.builder("logback.async.discarded", appender, MeteredAsyncAppender::getDiscardedEventCount)
+                .description("Log events dropped because the async queue was nearly full")
+                .tag("appender", appender.getName())
+                .register(registry);
+        Gauge.builder("logback.async.queue.size", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                .description("Log events waiting in the async queue")
+                .tag("appender", appender.getName())
+                .register(registry);
+        Gauge.builder("logback.async.queue.remaining", appender, MeteredAsyncAppender::getRemainingCapacity)
+                .description("Free slots in the async log queue")
+                .tag("appender", appender.getName())
+                .register(registry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.jigit.backend.global.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AsyncAppender that counts the events it drops.
+ * Like AsyncAppender, once the queue's remaining capacity falls below the discarding
+ * threshold it drops TRACE, DEBUG and INFO events, while WARN and ERROR events are always
+ * queued (blocking the caller if the queue is full, as neverBlock is false).
+ * Drops and queue depth are exported by AsyncAppenderMetrics.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discardedEvents = new LongAdder();
+
+    /**
+     * Only called while the queue is below the discarding threshold,
+     * so every discardable event seen here is dropped.
+     */
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            discardedEvents.increment();
+        }
+        return discardable;
+    }
+
+    public long getDiscardedEventCount() {
+        return discardedEvents.sum();
+    }
+}
@@ -0,0 +1,58 @@
+package com.jigit.backend.global.metrics;
+
+import org.hibernate.engine.spi.SessionEventListener;
+
+/**
+ * Adds the time Hibernate spends executing JDBC statements and batches, waiting for
+ * a pooled connection and holding it, to the current request's RequestQueryStats.
+ * Hibernate creates one instance per session.
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+    private long executeStart;
+    private long acquisitionStart;
+    private long acquiredAt;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        acquiredAt = System.nanoTime();
+        long waited = acquiredAt - acquisitionStart;
+        RequestQueryStats.current().ifPresent(stats -> stats.recordConnectionAcquire(waited));
+    }
+
+    @Override
+    public void jdbcConnectionReleaseStart() {
+        long held = System.nanoTime() - acquiredAt;
+        RequestQueryStats.current().ifPresent(stats -> stats.recordConnectionHold(held));
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        recordElapsed();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        recordElapsed();
+    }
+
+    private void recordElapsed() {
+        long elapsed = System.nanoTime() - executeStart;
+        RequestQueryStats.current().ifPresent(stats -> stats.recordJdbcTime(elapsed));
+    }
+}
@@ -0,0 +1,22 @@
+package com.jigit.backend.global.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements a controller method may execute per request,
+ * including cold-cache paths.
+ * Exceeding the budget is logged and counted; under the test profile QueryBudgetEnforcer
+ * fails the request instead, so tests catch new N+1 patterns.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * @return maximum number of statements
+     */
+    int value();
+}
@@ -0,0 +1,55 @@
+package com.jigit.backend.global.metrics;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Fails responses whose handler exceeded its @QueryBudget, so tests catch new N+1 patterns.
+ * Only active under the test profile: the check runs after the handler's transaction has
+ * committed, so outside tests it would turn a successful write (e.g. a recorded vote) into
+ * an error response. Elsewhere budgets are only logged and counted by QueryCountInterceptor.
+ */
+@Profile("test")
+@RestControllerAdvice
+public class QueryBudgetEnforcer implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(QueryBudget.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        QueryBudget budget = returnType.getMethodAnnotation(QueryBudget.class);
+        RequestQueryStats.current().ifPresent(stats -> {
+            if (stats.getStatementCount() > budget.value()) {
+                throw new QueryBudgetExceededException(returnType.getExecutable().getName(),
+                        stats.getStatementCount(), budget.value());
+            }
+        });
+        return body;
+    }
+
+    /**
+     * Raised under the test profile when a handler issues more statements than its budget.
+     */
+    public static class QueryBudgetExceededException extends IllegalStateException {
+
+        public QueryBudgetExceededException(String operation, int statements, int budget) {
+            super("Query budget exceeded by " + operation + ": " + statements + " statements, budget " + budget);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.jigit.backend.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares for the current request.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStats.current().ifPresent(stats -> stats.recordStatement(sql));
+        return sql;
+    }
+}
@@ -0,0 +1,115 @@
+package com.jigit.backend.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks SQL statements, JDBC time and connection usage for each controller operation.
+ * Records them in the http.server.requests.queries summary and the http.server.requests.jdbc,
+ * http.server.requests.connection.acquire and http.server.requests.connection.hold timers,
+ * tagged with the handler method (e.g. VoteController.submitVote).
+ * Requests that exceed their @QueryBudget, or repeat one statement at least
+ * query-stats.n-plus-one-threshold times, are logged and counted.
+ */
+@Slf4j
+@Component
+public class QueryCountInterceptor implements AsyncHandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+
+    public QueryCountInterceptor(
+            MeterRegistry meterRegistry,
+            @Value("${query-stats.n-plus-one-threshold:5}") int nPlusOneThreshold
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            RequestQueryStats.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Streaming responses continue on another thread; stop tracking on this one
+        RequestQueryStats.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestQueryStats.end().ifPresent(stats -> {
+            if (handler instanceof HandlerMethod handlerMethod) {
+                record(handlerMethod, stats);
+            }
+        });
+    }
+
+    private void record(HandlerMethod handlerMethod, RequestQueryStats stats) {
+        String operation = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("SQL statements executed per request")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("http.server.requests.jdbc")
+                .description("JDBC execution time per request")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("http.server.requests.connection.acquire")
+                .description("Time spent waiting for pooled connections per request")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(stats.getConnectionAcquireNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("http.server.requests.connection.hold")
+                .description("Time pooled connections were held per request")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(stats.getConnectionHoldNanos(), TimeUnit.NANOSECONDS);
+
+        QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        if (budget != null && stats.getStatementCount() > budget.value()) {
+            log.warn("Query budget exceeded - Operation: {}, Statements: {}, Budget: {}",
+                    operation, stats.getStatementCount(), budget.value());
+            countViolation("http.server.requests.query_budget.exceeded", "Requests exceeding their query budget", operation);
+        }
+
+        stats.mostRepeatedStatement()
+                .filter(statement -> statement.getValue() >= nPlusOneThreshold)
+                .ifPresent(statement -> {
+                    log.warn("Possible N+1 query - Operation: {}, Repeated: {}, SQL: {}",
+                            operation, statement.getValue(), statement.getKey());
+                    countViolation("http.server.requests.n_plus_one", "Requests repeating one statement", operation);
+                });
+    }
+
+    private void countViolation(String name, String description, String operation) {
+        Counter.builder(name)
+                .description(description)
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,48 @@
+package com.jigit.backend.global.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Exposes the request's SQL statement count and JDBC time as X-Query-Count and
+ * X-Query-Time-Ms response headers when query-stats.headers=true (dev profile).
+ */
+@RestControllerAdvice
+public class QueryStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    private static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+    private final boolean headers;
+
+    public QueryStatsResponseAdvice(@Value("${query-stats.headers:false}") boolean headers) {
+        this.headers = headers;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return headers;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        RequestQueryStats.current().ifPresent(stats -> {
+            response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+            response.getHeaders().set(QUERY_TIME_HEADER, String.valueOf(stats.getJdbcNanos() / 1_000_000));
+        });
+        return body;
+    }
+}
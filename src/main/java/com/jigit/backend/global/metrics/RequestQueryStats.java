@@ -0,0 +1,126 @@
+package com.jigit.backend.global.metrics;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * SQL statements, JDBC execution time and connection usage of the request running on the current thread.
+ * Started and finished by QueryCountInterceptor; statements issued outside a request
+ * (schedulers, the vote ingestion writer) are not tracked.
+ * Work a request hands to other threads (e.g. poll page sections) is tracked by binding the
+ * request's stats there with callWith, so the counters are safe for concurrent updates.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> statementCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger statementCount = new AtomicInteger();
+    private final LongAdder jdbcNanos = new LongAdder();
+    private final LongAdder connectionAcquireNanos = new LongAdder();
+    private final LongAdder connectionHoldNanos = new LongAdder();
+
+    private RequestQueryStats() {
+    }
+
+    /**
+     * Start tracking statements on the current thread.
+     */
+    public static void begin() {
+        CURRENT.set(new RequestQueryStats());
+    }
+
+    /**
+     * @return stats of the request on the current thread, empty outside a request
+     */
+    public static Optional<RequestQueryStats> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Stop tracking statements on the current thread.
+     *
+     * @return stats collected since begin(), empty if tracking was not started
+     */
+    public static Optional<RequestQueryStats> end() {
+        RequestQueryStats stats = CURRENT.get();
+        CURRENT.remove();
+        return Optional.ofNullable(stats);
+    }
+
+    /**
+     * Run work on the current thread with the given request's stats bound, restoring the previous state afterwards.
+     *
+     * @param stats stats of the request the work belongs to, or null to run untracked
+     * @param work the work to run
+     * @return the work's result
+     */
+    public static <T> T callWith(RequestQueryStats stats, Supplier<T> work) {
+        if (stats == null) {
+            return work.get();
+        }
+        RequestQueryStats previous = CURRENT.get();
+        CURRENT.set(stats);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    void recordStatement(String sql) {
+        statementCount.incrementAndGet();
+        statementCounts.merge(sql, 1, Integer::sum);
+    }
+
+    void recordJdbcTime(long nanos) {
+        jdbcNanos.add(nanos);
+    }
+
+    void recordConnectionAcquire(long nanos) {
+        connectionAcquireNanos.add(nanos);
+    }
+
+    void recordConnectionHold(long nanos) {
+        connectionHoldNanos.add(nanos);
+    }
+
+    public int getStatementCount() {
+        return statementCount.get();
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos.sum();
+    }
+
+    /**
+     * @return time spent waiting for pooled connections
+     */
+    public long getConnectionAcquireNanos() {
+        return connectionAcquireNanos.sum();
+    }
+
+    /**
+     * @return time pooled connections were held, from acquisition to release
+     */
+    public long getConnectionHoldNanos() {
+        return connectionHoldNanos.sum();
+    }
+
+    /**
+     * Find the statement repeated most often, the usual signature of an N+1 pattern.
+     *
+     * @return the most repeated SQL and its count, empty if no statements ran
+     */
+    public Optional<Map.Entry<String, Integer>> mostRepeatedStatement() {
+        return statementCounts.entrySet().stream().max(Map.Entry.comparingByValue());
+    }
+}
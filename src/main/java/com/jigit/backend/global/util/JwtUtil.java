@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 
 /**
@@ -20,6 +21,7 @@ public class JwtUtil {
 
     private final SecretKey secretKey;
     private final long expirationTime;
+    private final JwtParser jwtParser;
 
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
@@ -27,6 +29,10 @@ public class JwtUtil {
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationTime = expirationTime;
+        // Parser is immutable and thread-safe, so build it once
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     /**
@@ -51,20 +57,20 @@ public class JwtUtil {
     }
 
     /**
-     * Extract user ID from JWT token
+     * Verify the token signature and expiry and extract its claims in a single parse
      * @param token the JWT token string
-     * @return the user ID extracted from the token
+     * @return the verified user ID and token expiry
      * @throws ApplicationException if token is invalid or expired
      */
-    public Long getUserIdFromToken(String token) {
+    public VerifiedToken verifyToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
 
-            return Long.parseLong(claims.getSubject());
+            Date expiration = claims.getExpiration();
+            return new VerifiedToken(
+                    Long.parseLong(claims.getSubject()),
+                    expiration != null ? expiration.toInstant() : Instant.MAX
+            );
         } catch (ExpiredJwtException e) {
             throw new ApplicationException(UserException.EXPIRED_TOKEN);
         } catch (JwtException | IllegalArgumentException e) {
@@ -72,6 +78,16 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * Extract user ID from JWT token
+     * @param token the JWT token string
+     * @return the user ID extracted from the token
+     * @throws ApplicationException if token is invalid or expired
+     */
+    public Long getUserIdFromToken(String token) {
+        return verifyToken(token).getUserId();
+    }
+
     /**
      * Validate JWT token
      * @param token the JWT token string
@@ -79,14 +95,9 @@ public class JwtUtil {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            verifyToken(token);
             return true;
-        } catch (ExpiredJwtException e) {
-            return false;
-        } catch (JwtException | IllegalArgumentException e) {
+        } catch (ApplicationException e) {
             return false;
         }
     }
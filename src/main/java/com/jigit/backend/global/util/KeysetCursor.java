@@ -0,0 +1,68 @@
+package com.jigit.backend.global.util;
+
+import com.jigit.backend.global.exception.ApplicationException;
+import com.jigit.backend.global.exception.CommonException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for keyset pagination over (createdAt, id) ordered rows.
+ * Encodes the position of the last returned row, so the next page is fetched
+ * with a range predicate instead of an OFFSET and without a COUNT query.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    /**
+     * Create a cursor pointing at a row
+     * @param createdAt creation timestamp of the last returned row
+     * @param id ID of the last returned row
+     * @return cursor for the next page
+     */
+    public static KeysetCursor of(LocalDateTime createdAt, Long id) {
+        return new KeysetCursor(createdAt, id);
+    }
+
+    /**
+     * Encode this cursor as a URL-safe token
+     * @return opaque cursor token
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor token produced by {@link #encode()}
+     * @param token opaque cursor token
+     * @return decoded cursor
+     * @throws ApplicationException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new ApplicationException(CommonException.INVALID_CURSOR);
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ApplicationException(CommonException.INVALID_CURSOR, e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.jigit.backend.global.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Claims of a JWT whose signature and expiry have been verified.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private final Long userId;
+    private final Instant expiresAt;
+}
@@ -0,0 +1,20 @@
+package com.jigit.backend.poll.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Event published when a poll and its options are created.
+ * Used to populate poll metadata caches once the creating transaction commits.
+ */
+@Getter
+@AllArgsConstructor
+public class PollCreatedEvent {
+
+    private final Long pollId;
+    private final Boolean isPublic;
+    private final Long creatorId;
+    private final List<Long> optionIds;
+}
@@ -0,0 +1,43 @@
+package com.jigit.backend.poll.application;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable validation metadata of a poll: visibility, creator and option IDs.
+ * Polls and options do not change after creation, so instances can be cached indefinitely.
+ */
+public class PollMetadata {
+
+    private final Long pollId;
+    private final boolean isPublic;
+    private final Long creatorId;
+    private final long[] optionIds;
+
+    public PollMetadata(Long pollId, boolean isPublic, Long creatorId, Collection<Long> optionIds) {
+        this.pollId = pollId;
+        this.isPublic = isPublic;
+        this.creatorId = creatorId;
+        this.optionIds = optionIds.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    public Long getPollId() {
+        return pollId;
+    }
+
+    public boolean isPublic() {
+        return isPublic;
+    }
+
+    public Long getCreatorId() {
+        return creatorId;
+    }
+
+    /**
+     * @param optionId ID of an option
+     * @return true if the option belongs to this poll
+     */
+    public boolean hasOption(Long optionId) {
+        return optionId != null && Arrays.binarySearch(optionIds, optionId) >= 0;
+    }
+}
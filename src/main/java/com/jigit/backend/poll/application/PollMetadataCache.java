@@ -0,0 +1,125 @@
+package com.jigit.backend.poll.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.jigit.backend.global.datasource.PrimaryRouting;
+import com.jigit.backend.global.exception.ApplicationException;
+import com.jigit.backend.poll.domain.OptionRepository;
+import com.jigit.backend.poll.domain.PollRepository;
+import com.jigit.backend.poll.exception.PollException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Near-cache of poll validation metadata (existence, visibility, creator, option IDs).
+ * Entries are added when a poll is created and loaded on a miss; polls never change, so
+ * known polls stay cached for a bounded time (positive TTL) or until evicted by size.
+ * Unknown poll IDs are cached as absent for a short time, so repeated lookups of missing
+ * polls do not reach the database either. This is only done for IDs at or below the highest
+ * poll ID seen here: a higher ID may be a poll just created on another instance, whose
+ * PollCreatedEvent never reaches this cache, so those misses are checked again every time.
+ */
+@Component
+public class PollMetadataCache {
+
+    private final PollRepository pollRepository;
+    private final OptionRepository optionRepository;
+    private final Cache<Long, Optional<PollMetadata>> cache;
+    private final AtomicLong highestKnownPollId = new AtomicLong();
+
+    public PollMetadataCache(
+            PollRepository pollRepository,
+            OptionRepository optionRepository,
+            @Value("${poll.metadata-cache.maximum-size:100000}") long maximumSize,
+            @Value("${poll.metadata-cache.positive-ttl-minutes:60}") long positiveTtlMinutes,
+            @Value("${poll.metadata-cache.negative-ttl-seconds:10}") long negativeTtlSeconds
+    ) {
+        this.pollRepository = pollRepository;
+        this.optionRepository = optionRepository;
+        long positiveTtlNanos = Duration.ofMinutes(positiveTtlMinutes).toNanos();
+        long negativeTtlNanos = Duration.ofSeconds(negativeTtlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<Long, Optional<PollMetadata>>() {
+                    @Override
+                    public long expireAfterCreate(Long pollId, Optional<PollMetadata> metadata, long currentTime) {
+                        return metadata.isPresent() ? positiveTtlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long pollId, Optional<PollMetadata> metadata, long currentTime, long currentDuration) {
+                        return expireAfterCreate(pollId, metadata, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long pollId, Optional<PollMetadata> metadata, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Find the metadata of a poll, loading it on a cache miss.
+     *
+     * @param pollId ID of the poll
+     * @return Optional containing the metadata, empty if the poll does not exist
+     */
+    public Optional<PollMetadata> find(Long pollId) {
+        // Read from the primary so a poll created moments ago is not cached as missing
+        Optional<PollMetadata> metadata = cache.get(pollId, id -> {
+            Optional<PollMetadata> loaded = PrimaryRouting.onPrimary(() -> load(id));
+            // Returning null leaves nothing cached, so the next lookup reads the database again
+            return loaded.isPresent() || id <= highestKnownPollId.get() ? loaded : null;
+        });
+        return metadata != null ? metadata : Optional.empty();
+    }
+
+    /**
+     * Get the metadata of a poll that must exist.
+     *
+     * @param pollId ID of the poll
+     * @return poll metadata
+     * @throws ApplicationException if poll not found
+     */
+    public PollMetadata getRequired(Long pollId) {
+        return find(pollId)
+                .orElseThrow(() -> new ApplicationException(PollException.POLL_NOT_FOUND));
+    }
+
+    /**
+     * Cache a newly created poll once its transaction has committed.
+     * Replaces a negative entry cached while the poll was being created.
+     *
+     * @param event the created poll
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPollCreated(PollCreatedEvent event) {
+        highestKnownPollId.accumulateAndGet(event.getPollId(), Math::max);
+        cache.put(event.getPollId(), Optional.of(new PollMetadata(
+                event.getPollId(),
+                Boolean.TRUE.equals(event.getIsPublic()),
+                event.getCreatorId(),
+                event.getOptionIds()
+        )));
+    }
+
+    private Optional<PollMetadata> load(Long pollId) {
+        Optional<PollMetadata> metadata = pollRepository.findSummaryById(pollId)
+                .map(poll -> new PollMetadata(
+                        poll.getPollId(),
+                        Boolean.TRUE.equals(poll.getIsPublic()),
+                        poll.getCreatorId(),
+                        optionRepository.findOptionIdsByPollId(pollId)
+                ));
+        metadata.ifPresent(poll -> highestKnownPollId.accumulateAndGet(poll.getPollId(), Math::max));
+        return metadata;
+    }
+}
@@ -0,0 +1,281 @@
+package com.jigit.backend.poll.application;
+
+import com.jigit.backend.comment.application.CommentService;
+import com.jigit.backend.comment.presentation.dto.CommentListResponse;
+import com.jigit.backend.global.datasource.PrimaryRouting;
+import com.jigit.backend.global.exception.ApplicationException;
+import com.jigit.backend.global.metrics.RequestQueryStats;
+import com.jigit.backend.poll.exception.PollException;
+import com.jigit.backend.poll.presentation.dto.GetPollResponse;
+import com.jigit.backend.poll.presentation.dto.PollPageResponse;
+import com.jigit.backend.vote.application.VoteService;
+import com.jigit.backend.vote.presentation.dto.PollResultsResponse;
+import com.jigit.backend.vote.presentation.dto.VoteStatusResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Assembles a poll page (detail, results, caller's vote status, first comment page) in one call.
+ * The sections are independent, so each runs on its own virtual thread and the page takes as long
+ * as the slowest section instead of their sum. The page waits at most poll.page.branch-timeout-ms
+ * for each section. Sections are never interrupted, since interrupting a virtual thread in socket I/O
+ * closes its JDBC connection; instead the poll detail and comment sections run in transactions with
+ * the same timeout, so their queries are cancelled by the driver and the connections stay usable.
+ * The results and vote status sections run without a transaction so cache hits hold no connection.
+ * The poll detail is required: if it fails or times out the whole page fails. Other sections are
+ * left out and listed in the response's unavailable field.
+ * Each section may use its own pooled connection, so at most poll.page.max-concurrent pages fan out
+ * at once (by default a quarter of the primary pool size); pages beyond that load their sections
+ * one after another on the request thread. Both paths produce the same response.
+ */
+@Slf4j
+@Service
+public class PollPageService {
+
+    private static final String POLL = "poll";
+    private static final String RESULTS = "results";
+    private static final String VOTE_STATUS = "voteStatus";
+    private static final String COMMENTS = "comments";
+    private static final String NEWEST = "newest";
+    // Poll detail, results, vote status and comments
+    private static final int MAX_SECTIONS = 4;
+    // Hikari's default maximum pool size, used when the pool is not a HikariDataSource
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final PollService pollService;
+    private final VoteService voteService;
+    private final CommentService commentService;
+    private final PollMetadataCache pollMetadataCache;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final TransactionTemplate sectionTransaction;
+    private final Semaphore fanOutPermits;
+    private final long branchTimeoutNanos;
+
+    public PollPageService(
+            PollService pollService,
+            VoteService voteService,
+            CommentService commentService,
+            PollMetadataCache pollMetadataCache,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<HikariDataSource> connectionPool,
+            @Value("${poll.page.branch-timeout-ms:2000}") long branchTimeoutMs,
+            @Value("${poll.page.max-concurrent:0}") int maxConcurrentPages
+    ) {
+        this.pollService = pollService;
+        this.voteService = voteService;
+        this.commentService = commentService;
+        this.pollMetadataCache = pollMetadataCache;
+        this.meterRegistry = meterRegistry;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("poll-page-", 0).factory());
+        this.sectionTransaction = new TransactionTemplate(transactionManager);
+        this.sectionTransaction.setReadOnly(true);
+        // Transaction timeouts have second granularity
+        this.sectionTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(branchTimeoutMs + 999)));
+        this.fanOutPermits = new Semaphore(maxConcurrentPages > 0
+                ? maxConcurrentPages
+                : fanOutLimit(connectionPool.getIfUnique()));
+        Gauge.builder("poll.page.fan_out.available", fanOutPermits, Semaphore::availablePermits)
+                .description("Poll pages that may still fan out concurrently")
+                .register(meterRegistry);
+        this.branchTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(branchTimeoutMs);
+    }
+
+    /**
+     * Load every section of a poll page, concurrently unless too many pages are already fanned out.
+     *
+     * @param pollId ID of the poll
+     * @param userId ID of the caller, or null for anonymous callers (no vote status)
+     * @param commentSize size of the first comment page
+     * @return PollPageResponse with the sections that loaded in time
+     * @throws ApplicationException if the poll does not exist or its detail could not be loaded in time
+     */
+    public PollPageResponse getPollPage(Long pollId, Long userId, int commentSize) {
+        // Reject unknown polls before fanning out (memory lookup)
+        pollMetadataCache.getRequired(pollId);
+
+        Supplier<GetPollResponse> poll = () -> sectionTransaction.execute(status -> pollService.getPollById(pollId));
+        Supplier<PollResultsResponse> results = () -> voteService.getPollResults(pollId);
+        Supplier<VoteStatusResponse> voteStatus = userId == null
+                ? null
+                : () -> voteService.checkVoteStatus(userId, pollId);
+        Supplier<CommentListResponse> comments = () -> sectionTransaction.execute(
+                status -> commentService.getComments(pollId, NEWEST, null, commentSize));
+
+        if (!fanOutPermits.tryAcquire()) {
+            meterRegistry.counter("poll.page.sequential").increment();
+            return loadSequentially(poll, results, voteStatus, comments);
+        }
+
+        // Thread-bound routing and query stats do not follow the work onto other threads
+        boolean pinnedToPrimary = PrimaryRouting.isPinned();
+        RequestQueryStats queryStats = RequestQueryStats.current().orElse(null);
+        long deadline = System.nanoTime() + branchTimeoutNanos;
+        // The permit is held until the last section finishes, even if the page stopped waiting for it
+        AtomicInteger runningSections = new AtomicInteger(voteStatus == null ? 3 : 4);
+        Runnable sectionDone = () -> {
+            if (runningSections.decrementAndGet() == 0) {
+                fanOutPermits.release();
+            }
+        };
+
+        Future<GetPollResponse> pollFuture = fork(POLL, pinnedToPrimary, queryStats, poll, sectionDone);
+        Future<PollResultsResponse> resultsFuture = fork(RESULTS, pinnedToPrimary, queryStats, results, sectionDone);
+        Future<VoteStatusResponse> voteStatusFuture = voteStatus == null
+                ? null
+                : fork(VOTE_STATUS, pinnedToPrimary, queryStats, voteStatus, sectionDone);
+        Future<CommentListResponse> commentsFuture = fork(COMMENTS, pinnedToPrimary, queryStats, comments, sectionDone);
+
+        List<String> unavailable = new ArrayList<>();
+        GetPollResponse pollResponse = awaitRequired(pollFuture, deadline);
+        return new PollPageResponse(
+                pollResponse,
+                await(RESULTS, resultsFuture, deadline, unavailable),
+                voteStatusFuture == null ? null : await(VOTE_STATUS, voteStatusFuture, deadline, unavailable),
+                await(COMMENTS, commentsFuture, deadline, unavailable),
+                unavailable
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Load the sections one after another on the calling thread, using one connection at a time.
+     * Section failures are handled as in the concurrent path; the transaction timeouts still apply.
+     */
+    private PollPageResponse loadSequentially(
+            Supplier<GetPollResponse> poll,
+            Supplier<PollResultsResponse> results,
+            Supplier<VoteStatusResponse> voteStatus,
+            Supplier<CommentListResponse> comments
+    ) {
+        GetPollResponse pollResponse;
+        try {
+            pollResponse = poll.get();
+        } catch (QueryTimeoutException | TransactionTimedOutException e) {
+            log.warn("Poll page failed - Poll detail timed out");
+            throw new ApplicationException(PollException.POLL_PAGE_TIMEOUT);
+        }
+
+        List<String> unavailable = new ArrayList<>();
+        return new PollPageResponse(
+                pollResponse,
+                load(RESULTS, results, unavailable),
+                voteStatus == null ? null : load(VOTE_STATUS, voteStatus, unavailable),
+                load(COMMENTS, comments, unavailable),
+                unavailable
+        );
+    }
+
+    private <T> T load(String section, Supplier<T> work, List<String> unavailable) {
+        try {
+            return work.get();
+        } catch (RuntimeException e) {
+            log.warn("Poll page section failed - Section: {}, Message: {}", section, e.getMessage());
+            unavailable.add(section);
+            return null;
+        }
+    }
+
+    private <T> Future<T> fork(
+            String section,
+            boolean pinnedToPrimary,
+            RequestQueryStats queryStats,
+            Supplier<T> work,
+            Runnable onDone
+    ) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Supplier<T> tracked = () -> RequestQueryStats.callWith(queryStats, work);
+        return executor.submit(() -> {
+            String outcome = "error";
+            try {
+                T result = pinnedToPrimary ? PrimaryRouting.onPrimary(tracked) : tracked.get();
+                outcome = "success";
+                return result;
+            } finally {
+                onDone.run();
+                sample.stop(Timer.builder("poll.page.section")
+                        .description("Time to load one section of a poll page")
+                        .tag("section", section)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
+        });
+    }
+
+    private GetPollResponse awaitRequired(Future<GetPollResponse> future, long deadline) {
+        try {
+            return future.get(remaining(deadline), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Poll page failed - Poll detail timed out");
+            throw new ApplicationException(PollException.POLL_PAGE_TIMEOUT);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof QueryTimeoutException || e.getCause() instanceof TransactionTimedOutException) {
+                log.warn("Poll page failed - Poll detail query timed out");
+                throw new ApplicationException(PollException.POLL_PAGE_TIMEOUT);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApplicationException(PollException.POLL_PAGE_TIMEOUT);
+        }
+    }
+
+    private <T> T await(String section, Future<T> future, long deadline, List<String> unavailable) {
+        try {
+            return future.get(remaining(deadline), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Poll page section timed out - Section: {}", section);
+            meterRegistry.counter("poll.page.section.timeouts", "section", section).increment();
+        } catch (ExecutionException e) {
+            log.warn("Poll page section failed - Section: {}, Message: {}", section, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        unavailable.add(section);
+        return null;
+    }
+
+    /**
+     * One fan-out per four connections of the primary pool, so concurrent pages cannot take it over.
+     * Pools with fewer than four connections never fan out.
+     */
+    private static int fanOutLimit(HikariDataSource connectionPool) {
+        int poolSize = connectionPool != null ? connectionPool.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+        return poolSize / MAX_SECTIONS;
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+}
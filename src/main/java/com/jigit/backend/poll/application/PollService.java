@@ -1,23 +1,30 @@
 package com.jigit.backend.poll.application;
 
 import com.jigit.backend.global.exception.ApplicationException;
+import com.jigit.backend.global.util.KeysetCursor;
 import com.jigit.backend.poll.domain.Option;
 import com.jigit.backend.poll.domain.OptionRepository;
+import com.jigit.backend.poll.domain.OptionSummary;
 import com.jigit.backend.poll.domain.Poll;
 import com.jigit.backend.poll.domain.PollRepository;
+import com.jigit.backend.poll.domain.PollSummary;
 import com.jigit.backend.poll.exception.PollException;
 import com.jigit.backend.poll.presentation.dto.*;
 import com.jigit.backend.user.domain.User;
 import com.jigit.backend.user.domain.UserRepository;
 import com.jigit.backend.user.exception.UserException;
+import com.jigit.backend.vote.application.VoteCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -30,9 +37,13 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PollService {
 
+    private static final int MAX_FEED_SIZE = 100;
+
     private final PollRepository pollRepository;
     private final OptionRepository optionRepository;
     private final UserRepository userRepository;
+    private final VoteCounter voteCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new poll with options
@@ -79,6 +90,14 @@ public class PollService {
                 ))
                 .collect(Collectors.toList());
 
+        // Populate poll metadata caches after commit
+        eventPublisher.publishEvent(new PollCreatedEvent(
+                savedPoll.getPollId(),
+                savedPoll.getIsPublic(),
+                creator.getUserId(),
+                savedOptions.stream().map(Option::getOptionId).collect(Collectors.toList())
+        ));
+
         log.info("Poll created successfully - PollId: {}, OptionCount: {}", savedPoll.getPollId(), savedOptions.size());
         return new CreatePollResponse(
                 savedPoll.getPollId(),
@@ -100,64 +119,108 @@ public class PollService {
         log.debug("Fetching poll - PollId: {}", pollId);
 
         // Find poll
-        Poll poll = pollRepository.findById(pollId)
+        PollSummary poll = pollRepository.findSummaryById(pollId)
                 .orElseThrow(() -> new ApplicationException(PollException.POLL_NOT_FOUND));
 
-        // Find options
-        List<Option> options = optionRepository.findByPollOrderByOptionOrder(poll);
-
-        // Map to response
-        List<OptionResponse> optionResponses = options.stream()
-                .map(option -> new OptionResponse(
-                        option.getOptionId(),
-                        option.getOptionText(),
-                        option.getOptionOrder(),
-                        option.getVoteCount()
-                ))
-                .collect(Collectors.toList());
-
-        // Calculate total votes (sum of all option voteCounts)
-        Integer totalVotes = options.stream()
-                .mapToInt(Option::getVoteCount)
-                .sum();
-
-        return new GetPollResponse(
-                poll.getPollId(),
-                poll.getTitle(),
-                poll.getIsPublic(),
-                optionResponses,
-                poll.getCreator().getUserId(),
-                poll.getCreatedAt(),
-                totalVotes // ← 실제 전체 투표수 반영
-        );
+        // Find options and map to response
+        return toGetPollResponses(List.of(poll)).get(0);
     }
 
 
     /**
      * Retrieve all public polls with pagination
+     * Loads the page of polls, then all of their options in one query,
+     * so the number of queries does not grow with the page size
      * @param pageable pagination information
      * @return paginated list of public polls
      */
     public PollListResponse getPublicPolls(Pageable pageable) {
-        Page<Poll> pollPage = pollRepository.findByIsPublicTrue(pageable);
+        Page<PollSummary> pollPage = pollRepository.findPublicSummaries(pageable);
+
+        List<GetPollResponse> pollResponses = toGetPollResponses(pollPage.getContent());
+
+        return new PollListResponse(
+                pollResponses,
+                pollPage.getNumber(),
+                pollPage.getTotalPages(),
+                pollPage.getTotalElements(),
+                pollPage.getSize()
+        );
+    }
 
-        List<GetPollResponse> pollResponses = pollPage.getContent().stream()
+    /**
+     * Retrieve public polls as a cursor-paginated feed (newest first)
+     * Uses keyset pagination on (createdAt, pollId), so deep pages cost the same as the first
+     * and no count query is executed
+     * @param cursor cursor returned by the previous page, or null for the first page
+     * @param size page size (clamped to 1..100)
+     * @return feed page with the cursor for the next page
+     * @throws ApplicationException if the cursor is malformed
+     */
+    public PollFeedResponse getPublicPollFeed(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+
+        // Fetch one extra poll to detect whether another page exists
+        Limit limit = Limit.of(pageSize + 1);
+        List<PollSummary> polls;
+        if (cursor == null || cursor.isBlank()) {
+            polls = pollRepository.findPublicFeed(limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            polls = pollRepository.findPublicFeedAfter(position.getCreatedAt(), position.getId(), limit);
+        }
+
+        boolean hasNext = polls.size() > pageSize;
+        List<PollSummary> pagePolls = hasNext ? polls.subList(0, pageSize) : polls;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PollSummary last = pagePolls.get(pagePolls.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getPollId()).encode();
+        }
+
+        return new PollFeedResponse(toGetPollResponses(pagePolls), nextCursor, hasNext);
+    }
+
+    /**
+     * Assemble poll responses for a list of polls
+     * Fetches options of all polls with a single IN query and groups them in memory;
+     * both polls and options are read-only projections, so no entities are managed
+     * @param polls polls to map, in display order
+     * @return poll responses in the same order
+     */
+    private List<GetPollResponse> toGetPollResponses(List<PollSummary> polls) {
+        if (polls.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> pollIds = polls.stream()
+                .map(PollSummary::getPollId)
+                .collect(Collectors.toList());
+
+        // Load options of every poll at once, grouped by poll ID
+        List<OptionSummary> options = optionRepository.findSummariesByPollIds(pollIds);
+        Map<Long, List<OptionSummary>> optionsByPollId = options.stream()
+                .collect(Collectors.groupingBy(OptionSummary::getPollId));
+        Map<Long, Long> pendingCounts = getPendingCounts(options);
+
+        return polls.stream()
                 .map(poll -> {
-                    List<Option> options = optionRepository.findByPollOrderByOptionOrder(poll);
+                    List<OptionSummary> pollOptions = optionsByPollId.getOrDefault(poll.getPollId(), List.of());
 
                     // Build option responses with actual vote counts
-                    List<OptionResponse> optionResponses = options.stream()
+                    List<OptionResponse> optionResponses = pollOptions.stream()
                             .map(option -> new OptionResponse(
                                     option.getOptionId(),
                                     option.getOptionText(),
                                     option.getOptionOrder(),
-                                    option.getVoteCount() // 실제 투표수 반영
+                                    currentVoteCount(option, pendingCounts) // 실제 투표수 반영
                             ))
                             .collect(Collectors.toList());
 
-                    // Calculate total votes
-                    Integer totalVotes = options.stream()
-                            .mapToInt(Option::getVoteCount)
+                    // Calculate total votes (sum of all option voteCounts)
+                    Integer totalVotes = optionResponses.stream()
+                            .mapToInt(OptionResponse::getVoteCount)
                             .sum();
 
                     return new GetPollResponse(
@@ -165,20 +228,29 @@ public class PollService {
                             poll.getTitle(),
                             poll.getIsPublic(),
                             optionResponses,
-                            poll.getCreator().getUserId(),
+                            poll.getCreatorId(),
                             poll.getCreatedAt(),
                             totalVotes // 전체 투표수 반영
                     );
                 })
                 .collect(Collectors.toList());
+    }
 
-        return new PollListResponse(
-                pollResponses,
-                pollPage.getNumber(),
-                pollPage.getTotalPages(),
-                pollPage.getTotalElements(),
-                pollPage.getSize()
-        );
+    /**
+     * Look up votes counted by the vote counter but not yet folded into the stored count
+     * @param options options to look up
+     * @return map of option ID to pending vote count
+     */
+    private Map<Long, Long> getPendingCounts(List<OptionSummary> options) {
+        return voteCounter.getPendingCounts(
+                options.stream().map(OptionSummary::getOptionId).collect(Collectors.toList()));
+    }
+
+    /**
+     * Stored vote count plus pending votes
+     */
+    private int currentVoteCount(OptionSummary option, Map<Long, Long> pendingCounts) {
+        return option.getVoteCount() + pendingCounts.getOrDefault(option.getOptionId(), 0L).intValue();
     }
 
 }
@@ -1,12 +1,17 @@
 package com.jigit.backend.poll.domain;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Option entity.
@@ -22,16 +27,106 @@ public interface OptionRepository extends JpaRepository<Option, Long> {
      */
     List<Option> findByPollOrderByOptionOrder(Poll poll);
 
+    String SUMMARY_SELECT = "SELECT o.optionId AS optionId, o.poll.pollId AS pollId, o.optionText AS optionText, "
+            + "o.optionOrder AS optionOrder, o.voteCount AS voteCount FROM Option o ";
+
+    /**
+     * Find all options for several polls in a single query.
+     * Used to assemble a page of polls without issuing one query per poll.
+     *
+     * @param pollIds IDs of the polls
+     * @return List of option summaries ordered by poll ID, then option order
+     */
+    @Query(SUMMARY_SELECT + "WHERE o.poll.pollId IN :pollIds ORDER BY o.poll.pollId, o.optionOrder")
+    List<OptionSummary> findSummariesByPollIds(@Param("pollIds") Collection<Long> pollIds);
+
+    /**
+     * Find all options for a poll as read-only projections, ordered by option order.
+     *
+     * @param pollId ID of the poll
+     * @return List of option summaries ordered by optionOrder field
+     */
+    @Query(SUMMARY_SELECT + "WHERE o.poll.pollId = :pollId ORDER BY o.optionOrder")
+    List<OptionSummary> findSummariesByPollId(@Param("pollId") Long pollId);
+
+    /**
+     * Find the poll an option belongs to without loading the option entity.
+     * Validates option existence and poll membership in a single query.
+     *
+     * @param optionId ID of the option
+     * @return Optional containing the poll ID if the option exists, empty otherwise
+     */
+    @Query("SELECT o.poll.pollId FROM Option o WHERE o.optionId = :optionId")
+    Optional<Long> findPollIdByOptionId(@Param("optionId") Long optionId);
+
+    /**
+     * Find the IDs of all options belonging to a poll.
+     *
+     * @param pollId ID of the poll
+     * @return List of option IDs
+     */
+    @Query("SELECT o.optionId FROM Option o WHERE o.poll.pollId = :pollId")
+    List<Long> findOptionIdsByPollId(@Param("pollId") Long pollId);
+
     /**
-     * Atomically increment vote count for an option.
-     * Uses database-level atomic operation to prevent race conditions when multiple users vote concurrently.
-     * CRITICAL: This query ensures thread-safe vote counting.
+     * Atomically add a batched delta to an option's vote count.
+     * Called by the write-behind vote counter so that many votes cost a single row update.
      *
-     * @param optionId ID of the option to increment vote count for
+     * @param optionId ID of the option to update
+     * @param delta number of votes to add
      */
     @Modifying
-    @Query("UPDATE Option o SET o.voteCount = o.voteCount + 1 WHERE o.optionId = :optionId")
-    void incrementVoteCount(@Param("optionId") Long optionId);
+    @Query("UPDATE Option o SET o.voteCount = o.voteCount + :delta WHERE o.optionId = :optionId")
+    void addVoteCount(@Param("optionId") Long optionId, @Param("delta") int delta);
+
+    /**
+     * Recompute vote counts from the votes table for options whose stored count has drifted.
+     * Used by the one-off reconciliation to recover deltas that were buffered but never flushed.
+     * Declares the options table as its query space so only the Option cache region is evicted.
+     *
+     * @return number of options whose vote count was corrected
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "options"))
+    @Query(value = "UPDATE options o "
+            + "SET o.vote_count = (SELECT COUNT(*) FROM votes v WHERE v.option_id = o.option_id) "
+            + "WHERE o.vote_count <> (SELECT COUNT(*) FROM votes v WHERE v.option_id = o.option_id)",
+            nativeQuery = true)
+    int reconcileVoteCounts();
+
+    /**
+     * Recompute vote counts from the votes table, leaving votes still held in counter shards
+     * (sharded counter mode) out of the stored count so that compaction can fold them in later.
+     *
+     * @return number of options whose vote count was corrected
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "options"))
+    @Query(value = "UPDATE options o "
+            + "SET o.vote_count = (SELECT COUNT(*) FROM votes v WHERE v.option_id = o.option_id) "
+            + "- (SELECT COALESCE(SUM(s.vote_count), 0) FROM option_vote_shards s WHERE s.option_id = o.option_id) "
+            + "WHERE o.vote_count <> (SELECT COUNT(*) FROM votes v WHERE v.option_id = o.option_id) "
+            + "- (SELECT COALESCE(SUM(s.vote_count), 0) FROM option_vote_shards s WHERE s.option_id = o.option_id)",
+            nativeQuery = true)
+    int reconcileVoteCountsExcludingShards();
+
+    /**
+     * Try to take a MySQL named lock on the current connection without waiting.
+     * Must be released on the same connection, so call it inside the transaction that uses it.
+     *
+     * @param name lock name
+     * @return 1 if the lock was acquired, 0 if another session holds it
+     */
+    @Query(value = "SELECT GET_LOCK(:name, 0)", nativeQuery = true)
+    Integer tryNamedLock(@Param("name") String name);
+
+    /**
+     * Release a MySQL named lock held by the current connection.
+     *
+     * @param name lock name
+     */
+    @Query(value = "SELECT RELEASE_LOCK(:name)", nativeQuery = true)
+    Integer releaseNamedLock(@Param("name") String name);
 
     /**
      * Find all options for a poll, ordered by option order.
@@ -0,0 +1,18 @@
+package com.jigit.backend.poll.domain;
+
+/**
+ * Read-only projection of an option row.
+ * Returned by read queries so no managed Option entity is created.
+ */
+public interface OptionSummary {
+
+    Long getOptionId();
+
+    Long getPollId();
+
+    String getOptionText();
+
+    Integer getOptionOrder();
+
+    Integer getVoteCount();
+}
@@ -7,17 +7,27 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "polls")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+@Table(
+    name = "polls",
+    indexes = {
+        @Index(name = "idx_polls_public_created", columnList = "is_public, created_at, poll_id")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Poll {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "polls_seq")
+    @SequenceGenerator(name = "polls_seq", sequenceName = "polls_seq", allocationSize = 50)
     @Column(name = "poll_id")
     private Long pollId;
 
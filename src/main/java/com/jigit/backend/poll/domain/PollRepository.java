@@ -1,21 +1,65 @@
 package com.jigit.backend.poll.domain;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository interface for Poll entity.
  * Provides database access methods for poll-related operations.
+ * Read paths return PollSummary projections instead of managed entities.
  */
 @Repository
 public interface PollRepository extends JpaRepository<Poll, Long> {
 
+    String SUMMARY_SELECT = "SELECT p.pollId AS pollId, p.title AS title, p.isPublic AS isPublic, "
+            + "p.creator.userId AS creatorId, p.createdAt AS createdAt FROM Poll p ";
+
+    /**
+     * Find a poll as a read-only projection
+     * @param pollId ID of the poll
+     * @return Optional containing the poll summary if found
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.pollId = :pollId")
+    Optional<PollSummary> findSummaryById(@Param("pollId") Long pollId);
+
     /**
      * Find all public polls with pagination
      * @param pageable pagination information
-     * @return Page of public polls
+     * @return Page of public poll summaries
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE p.isPublic = true",
+            countQuery = "SELECT COUNT(p) FROM Poll p WHERE p.isPublic = true")
+    Page<PollSummary> findPublicSummaries(Pageable pageable);
+
+    /**
+     * Find the first page of the public poll feed (newest first)
+     * Served by the (is_public, created_at, poll_id) index without a count query
+     * @param limit maximum number of polls to return
+     * @return public polls ordered by createdAt and pollId descending
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.isPublic = true ORDER BY p.createdAt DESC, p.pollId DESC")
+    List<PollSummary> findPublicFeed(Limit limit);
+
+    /**
+     * Find the public polls that come after a keyset position in the feed (newest first)
+     * @param createdAt creation timestamp of the last poll on the previous page
+     * @param pollId ID of the last poll on the previous page
+     * @param limit maximum number of polls to return
+     * @return public polls older than the given position, ordered by createdAt and pollId descending
      */
-    Page<Poll> findByIsPublicTrue(Pageable pageable);
+    @Query(SUMMARY_SELECT + "WHERE p.isPublic = true "
+            + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.pollId < :pollId)) "
+            + "ORDER BY p.createdAt DESC, p.pollId DESC")
+    List<PollSummary> findPublicFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                          @Param("pollId") Long pollId,
+                                          Limit limit);
 }
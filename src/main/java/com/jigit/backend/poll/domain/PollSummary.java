@@ -0,0 +1,20 @@
+package com.jigit.backend.poll.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a poll row.
+ * Returned by read queries so no managed Poll entity is created.
+ */
+public interface PollSummary {
+
+    Long getPollId();
+
+    String getTitle();
+
+    Boolean getIsPublic();
+
+    Long getCreatorId();
+
+    LocalDateTime getCreatedAt();
+}
@@ -11,7 +11,8 @@ public enum PollException implements ExceptionCode {
     UNAUTHORIZED_POLL_ACCESS(HttpStatus.FORBIDDEN, "Unauthorized Access", "You do not have permission to access this poll."),
     INVALID_POLL_TITLE(HttpStatus.BAD_REQUEST, "Invalid Poll Title", "Poll title cannot be empty."),
     INSUFFICIENT_OPTIONS(HttpStatus.BAD_REQUEST, "Insufficient Options", "A poll must have at least 2 options."),
-    OPTION_NOT_FOUND(HttpStatus.NOT_FOUND, "Option Not Found", "The requested option does not exist.");
+    OPTION_NOT_FOUND(HttpStatus.NOT_FOUND, "Option Not Found", "The requested option does not exist."),
+    POLL_PAGE_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "Poll Page Timeout", "The poll could not be loaded in time. Please try again.");
 
     private final HttpStatus httpStatus;
     private final String title;
@@ -1,6 +1,8 @@
 package com.jigit.backend.poll.presentation;
 
 import com.jigit.backend.global.auth.CurrentUser;
+import com.jigit.backend.global.metrics.QueryBudget;
+import com.jigit.backend.poll.application.PollPageService;
 import com.jigit.backend.poll.application.PollService;
 import com.jigit.backend.poll.presentation.dto.*;
 import jakarta.validation.Valid;
@@ -21,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 public class PollController implements PollControllerDocs {
 
     private final PollService pollService;
+    private final PollPageService pollPageService;
 
     /**
      * Create a new poll with options
@@ -29,6 +32,7 @@ public class PollController implements PollControllerDocs {
      * @return poll creation response
      */
     @Override
+    @QueryBudget(8)
     @PostMapping
     public ResponseEntity<CreatePollResponse> createPoll(
             @Valid @RequestBody CreatePollRequest request,
@@ -44,6 +48,7 @@ public class PollController implements PollControllerDocs {
      * @return poll details response
      */
     @Override
+    @QueryBudget(3)
     @GetMapping("/{pollId}")
     public ResponseEntity<GetPollResponse> getPollById(@PathVariable Long pollId) {
         GetPollResponse response = pollService.getPollById(pollId);
@@ -58,6 +63,7 @@ public class PollController implements PollControllerDocs {
      * @return paginated list of public polls
      */
     @Override
+    @QueryBudget(4)
     @GetMapping
     public ResponseEntity<PollListResponse> getPublicPolls(
             @RequestParam(defaultValue = "0") int page,
@@ -75,4 +81,39 @@ public class PollController implements PollControllerDocs {
         PollListResponse response = pollService.getPublicPolls(pageable);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Retrieve public polls as a cursor-paginated feed
+     * @param cursor cursor from the previous page (omit for the first page)
+     * @param size page size
+     * @return feed page with next cursor
+     */
+    @Override
+    @QueryBudget(3)
+    @GetMapping("/feed")
+    public ResponseEntity<PollFeedResponse> getPublicPollFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        PollFeedResponse response = pollService.getPublicPollFeed(cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Retrieve everything needed to render a poll page in one request
+     * @param pollId poll ID to retrieve
+     * @param commentSize size of the first comment page
+     * @param userId current user's ID, or null for anonymous callers
+     * @return poll detail, results, vote status and first comment page
+     */
+    @Override
+    @GetMapping("/{pollId}/page")
+    public ResponseEntity<PollPageResponse> getPollPage(
+            @PathVariable Long pollId,
+            @RequestParam(defaultValue = "20") int commentSize,
+            @CurrentUser(required = false) Long userId
+    ) {
+        PollPageResponse response = pollPageService.getPollPage(pollId, userId, commentSize);
+        return ResponseEntity.ok(response);
+    }
 }
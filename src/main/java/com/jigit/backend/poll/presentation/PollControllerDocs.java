@@ -315,4 +315,91 @@ public interface PollControllerDocs {
                     name = "sort"
             ) @RequestParam(defaultValue = "createdAt,desc") String sort
     );
+
+    @Operation(
+            summary = "공개 투표 피드 조회 (커서 기반)",
+            description = """
+                    공개 투표를 최신순으로 커서 기반 페이지네이션하여 조회합니다.
+                    전체 개수를 세지 않으므로 깊은 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+
+                    **Query Parameters:**
+                    - `cursor`: 이전 응답의 `nextCursor` 값 (첫 페이지는 생략)
+                    - `size`: 페이지당 항목 수 (기본값: 20, 최대: 100)
+
+                    **사용 예시:**
+                    - `/api/polls/feed?size=10` - 첫 페이지, 10개씩
+                    - `/api/polls/feed?cursor={nextCursor}&size=10` - 다음 페이지
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "투표 피드 조회 성공",
+                    content = @Content(schema = @Schema(implementation = PollFeedResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "잘못된 커서",
+                                    value = """
+                                            {
+                                              "title": "Invalid Cursor",
+                                              "status": 400,
+                                              "detail": "The pagination cursor is invalid or malformed.",
+                                              "instance": "/api/polls/feed"
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    @GetMapping("/feed")
+    ResponseEntity<PollFeedResponse> getPublicPollFeed(
+            @Parameter(
+                    description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)",
+                    name = "cursor"
+            ) @RequestParam(required = false) String cursor,
+            @Parameter(
+                    description = "페이지당 항목 수 (최대 100)",
+                    example = "20",
+                    name = "size"
+            ) @RequestParam(defaultValue = "20") int size
+    );
+
+    @Operation(
+            summary = "투표 페이지 조회",
+            description = """
+                    투표 화면에 필요한 정보를 한 번에 조회합니다.
+                    투표 상세, 투표 결과, 내 투표 여부, 최신 댓글 첫 페이지를 동시에 조회하므로
+                    응답 시간은 가장 느린 조회에 맞춰집니다.
+
+                    - 로그인하지 않은 경우 `voteStatus`는 null입니다.
+                    - 결과, 투표 여부, 댓글 중 제한 시간 안에 조회되지 않은 항목은 null이며 `unavailable`에 표시됩니다.
+                    - 투표 상세를 제한 시간 안에 조회하지 못하면 503을 반환합니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "투표 페이지 조회 성공",
+                    content = @Content(schema = @Schema(implementation = PollPageResponse.class))
+            ),
+            @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "투표를 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(responseCode = "503", description = "투표 상세를 제한 시간 내 조회하지 못함",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping("/{pollId}/page")
+    ResponseEntity<PollPageResponse> getPollPage(
+            @Parameter(description = "조회할 투표 ID", example = "1")
+            @PathVariable Long pollId,
+            @Parameter(
+                    description = "첫 댓글 페이지의 항목 수 (최대 100)",
+                    example = "20",
+                    name = "commentSize"
+            ) @RequestParam(defaultValue = "20") int commentSize,
+            @Parameter(hidden = true) @CurrentUser(required = false) Long userId
+    );
 }
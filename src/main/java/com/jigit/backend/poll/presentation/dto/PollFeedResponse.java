@@ -0,0 +1,26 @@
+package com.jigit.backend.poll.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Response DTO for cursor-paginated public poll feed
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "Cursor-paginated poll feed response")
+public class PollFeedResponse {
+
+    @Schema(description = "List of polls")
+    private List<GetPollResponse> polls;
+
+    @Schema(description = "Cursor for the next page (null if there are no more polls)",
+            example = "MjAyNS0xMS0yNlQxMDozMDp8NDI", nullable = true)
+    private String nextCursor;
+
+    @Schema(description = "Whether more polls are available", example = "true")
+    private Boolean hasNext;
+}
@@ -0,0 +1,34 @@
+package com.jigit.backend.poll.presentation.dto;
+
+import com.jigit.backend.comment.presentation.dto.CommentListResponse;
+import com.jigit.backend.vote.presentation.dto.PollResultsResponse;
+import com.jigit.backend.vote.presentation.dto.VoteStatusResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Response DTO for everything needed to render one poll page
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "Poll page response: poll detail, results, vote status and first comment page")
+public class PollPageResponse {
+
+    @Schema(description = "Poll detail")
+    private GetPollResponse poll;
+
+    @Schema(description = "Aggregated results (null if unavailable)", nullable = true)
+    private PollResultsResponse results;
+
+    @Schema(description = "Caller's vote status (null for anonymous callers or if unavailable)", nullable = true)
+    private VoteStatusResponse voteStatus;
+
+    @Schema(description = "First page of comments, newest first (null if unavailable)", nullable = true)
+    private CommentListResponse comments;
+
+    @Schema(description = "Sections that failed or timed out and were left out", example = "[]")
+    private List<String> unavailable;
+}
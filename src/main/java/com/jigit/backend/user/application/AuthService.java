@@ -1,5 +1,6 @@
 package com.jigit.backend.user.application;
 
+import com.jigit.backend.global.auth.VerifiedTokenCache;
 import com.jigit.backend.global.exception.ApplicationException;
 import com.jigit.backend.global.util.JwtUtil;
 import com.jigit.backend.user.domain.User;
@@ -8,8 +9,8 @@ import com.jigit.backend.user.exception.UserException;
 import com.jigit.backend.user.presentation.dto.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -24,15 +25,18 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final PasswordHasher passwordHasher;
 
     /**
      * Register a new user
+     * Runs without a transaction so no connection is held while the password is hashed;
+     * the insert commits in the repository's own short transaction
      * @param request signup request containing username and password
      * @return signup response with created user ID
-     * @throws ApplicationException if username already exists
+     * @throws ApplicationException if username already exists or the hashing executor is saturated
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest request) {
         log.info("Signup attempt - Username: {}", request.getUsername());
 
@@ -43,7 +47,7 @@ public class AuthService {
         }
 
         // Hash password using bcrypt
-        String hashedPassword = passwordEncoder.encode(request.getPassword());
+        String hashedPassword = passwordHasher.encode(request.getPassword());
 
         // Create and save user
         User user = User.builder()
@@ -59,10 +63,13 @@ public class AuthService {
 
     /**
      * Authenticate user and generate JWT token
+     * Runs without a transaction so no connection is held while the password is verified.
+     * A hash with an outdated encoding or cost is replaced after a successful login
      * @param request login request containing username and password
      * @return login response with JWT token and user ID
-     * @throws ApplicationException if credentials are invalid
+     * @throws ApplicationException if credentials are invalid or the hashing executor is saturated
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request) {
         log.info("Login attempt - Username: {}", request.getUsername());
 
@@ -74,11 +81,16 @@ public class AuthService {
                 });
 
         // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPasswordHash())) {
             log.warn("Login failed - Invalid password for username: {}", request.getUsername());
             throw new ApplicationException(UserException.INVALID_CREDENTIALS);
         }
 
+        // Upgrade legacy or lower-cost hashes while the raw password is at hand
+        if (passwordHasher.needsRehash(user.getPasswordHash())) {
+            rehashPassword(user, request.getPassword());
+        }
+
         // Generate JWT token
         String token = jwtUtil.generateToken(user.getUserId());
 
@@ -99,17 +111,29 @@ public class AuthService {
             return new ValidateResponse(false, null);
         }
 
-        // Validate token
-        if (!jwtUtil.validateToken(token)) {
-            return new ValidateResponse(false, null);
-        }
-
         try {
-            // Extract user ID from token
-            Long userId = jwtUtil.getUserIdFromToken(token);
+            // Validate token and extract user ID in one pass
+            Long userId = verifiedTokenCache.getUserId(token);
             return new ValidateResponse(true, userId);
         } catch (ApplicationException e) {
             return new ValidateResponse(false, null);
         }
     }
+
+    /**
+     * Re-encode a user's password with the current encoding.
+     * Failures are logged only; the login itself has already succeeded
+     * @param user the authenticated user
+     * @param rawPassword the verified raw password
+     */
+    private void rehashPassword(User user, String rawPassword) {
+        try {
+            String newHash = passwordHasher.encode(rawPassword);
+            if (userRepository.updatePasswordHash(user.getUserId(), user.getPasswordHash(), newHash) > 0) {
+                log.info("Password hash upgraded - UserId: {}", user.getUserId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Password hash upgrade failed - UserId: {}, Message: {}", user.getUserId(), e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,133 @@
+package com.jigit.backend.user.application;
+
+import com.jigit.backend.global.exception.ApplicationException;
+import com.jigit.backend.user.exception.UserException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password hashing on a bounded, dedicated executor.
+ * Hashing is deliberately CPU-heavy, so at most auth.password.hashing-threads hashes run at once
+ * and at most auth.password.queue-capacity wait; beyond that signup and login are rejected with 503.
+ * A login storm therefore uses a fixed share of the cores and cannot starve the vote path.
+ * Encode and verify times (queue wait excluded) are recorded in the auth.password.hashing timer.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer verifyTimer;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${auth.password.hashing-threads:0}") int hashingThreads,
+            @Value("${auth.password.queue-capacity:64}") int queueCapacity
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        // 0: half of the available cores
+        int threads = hashingThreads > 0 ? hashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password_hashing");
+        this.encodeTimer = hashingTimer("encode", meterRegistry);
+        this.verifyTimer = hashingTimer("verify", meterRegistry);
+        log.info("Password hashing executor started - Threads: {}, QueueCapacity: {}", threads, queueCapacity);
+    }
+
+    /**
+     * Hash a raw password with the current default encoding.
+     *
+     * @param rawPassword the password to hash
+     * @return the encoded password hash, prefixed with its encoding ID
+     * @throws ApplicationException if the hashing executor is saturated
+     */
+    public String encode(String rawPassword) {
+        return run(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * Verify a raw password against a stored hash.
+     *
+     * @param rawPassword the password to verify
+     * @param passwordHash the stored hash
+     * @return true if the password matches
+     * @throws ApplicationException if the hashing executor is saturated
+     */
+    public boolean matches(String rawPassword, String passwordHash) {
+        return run(() -> verifyTimer.record(() -> passwordEncoder.matches(rawPassword, passwordHash)));
+    }
+
+    /**
+     * Check whether a stored hash uses an outdated encoding or cost
+     * and should be replaced after the next successful login.
+     *
+     * @param passwordHash the stored hash
+     * @return true if the hash should be re-encoded
+     */
+    public boolean needsRehash(String passwordHash) {
+        return passwordEncoder.upgradeEncoding(passwordHash);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing rejected - Executor saturated, Queued: {}", executor.getQueue().size());
+            throw new ApplicationException(UserException.AUTHENTICATION_BUSY);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ApplicationException(UserException.AUTHENTICATION_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Timer hashingTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("auth.password.hashing")
+                .description("Time spent hashing and verifying passwords")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
@@ -1,8 +1,14 @@
 package com.jigit.backend.user.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,4 +31,27 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true if username exists, false otherwise
      */
     boolean existsByUsername(String username);
+
+    /**
+     * Find which of the given user IDs exist, without loading user entities
+     * @param userIds the user IDs to check
+     * @return IDs of existing users
+     */
+    @Query("SELECT u.userId FROM User u WHERE u.userId IN :userIds")
+    List<Long> findExistingUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Replace a user's password hash if it still equals the hash that was verified,
+     * so a rehash on login never overwrites a concurrent password change
+     * @param userId the user ID
+     * @param currentHash the hash the password was verified against
+     * @param newHash the re-encoded hash
+     * @return number of updated rows (0 if the hash changed in the meantime)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :newHash WHERE u.userId = :userId AND u.passwordHash = :currentHash")
+    int updatePasswordHash(@Param("userId") Long userId,
+                           @Param("currentHash") String currentHash,
+                           @Param("newHash") String newHash);
 }
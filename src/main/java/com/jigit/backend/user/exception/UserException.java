@@ -17,7 +17,8 @@ public enum UserException implements ExceptionCode {
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "Invalid Token", "The provided token is invalid."),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "Expired Token", "The provided token has expired."),
     TOKEN_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Token Generation Failed", "Failed to generate authentication token."),
-    UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "Unauthorized", "Authentication is required to access this resource.");
+    UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "Unauthorized", "Authentication is required to access this resource."),
+    AUTHENTICATION_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "Authentication Busy", "Too many signup or login requests are being processed. Please try again shortly.");
 
     private final HttpStatus httpStatus;
     private final String title;
@@ -71,6 +71,22 @@ public interface AuthControllerDocs {
                             )
                     )
             ),
+            @ApiResponse(responseCode = "503", description = "요청 과다",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "비밀번호 처리 대기열 포화",
+                                    value = """
+                                            {
+                                              "code": "AUTHENTICATION_BUSY",
+                                              "message": "Authentication Busy",
+                                              "path": "/api/auth/signup",
+                                              "timestamp": "2025-01-24T10:30:00"
+                                            }
+                                            """
+                            )
+                    )
+            ),
             @ApiResponse(responseCode = "500", description = "서버 오류",
                     content = @Content(
                             schema = @Schema(implementation = ErrorResponse.class),
@@ -93,7 +109,7 @@ public interface AuthControllerDocs {
 
     @Operation(
             summary = "로그인",
-            description = "사용자 인증 후 JWT 토큰을 발급합니다."
+            description = "사용자 인증 후 JWT 토큰을 발급합니다. 이전 방식이나 낮은 비용으로 저장된 비밀번호 해시는 로그인 성공 시 현재 설정으로 다시 저장됩니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "로그인 성공",
@@ -126,6 +142,22 @@ public interface AuthControllerDocs {
                             )
                     )
             ),
+            @ApiResponse(responseCode = "503", description = "요청 과다",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "비밀번호 처리 대기열 포화",
+                                    value = """
+                                            {
+                                              "code": "AUTHENTICATION_BUSY",
+                                              "message": "Authentication Busy",
+                                              "path": "/api/auth/login",
+                                              "timestamp": "2025-01-24T10:30:00"
+                                            }
+                                            """
+                            )
+                    )
+            ),
             @ApiResponse(responseCode = "500", description = "서버 오류",
                     content = @Content(
                             schema = @Schema(implementation = ErrorResponse.class),
@@ -0,0 +1,125 @@
+package com.jigit.backend.vote.application;
+
+import com.jigit.backend.vote.presentation.dto.OptionResultDto;
+import com.jigit.backend.vote.presentation.dto.PollResultsResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mutable, thread-safe vote tally of a single poll held by the results cache.
+ * Votes increment the counts in place; the PollResultsResponse with percentages is
+ * computed on the first read after a change and reused until the next vote.
+ * Each vote bumps a version, and a computed response is only reused while its version
+ * is current, so a response computed concurrently with a vote is never served afterwards.
+ *
+ * Votes carry the commit sequence assigned by PollResultsCache. A tally loaded from the database
+ * covers every vote sequenced before the load started, so such votes arriving afterwards are
+ * ignored instead of being counted twice.
+ */
+public class LivePollResults {
+
+    private final Long pollId;
+    private final String title;
+    private final List<Long> optionIds;
+    private final List<String> optionTexts;
+    private final AtomicIntegerArray voteCounts;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile long loadedThroughSequence;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param pollId ID of the poll
+     * @param title poll title
+     * @param optionIds option IDs in display order
+     * @param optionTexts option texts in display order
+     * @param voteCounts current vote counts in display order
+     */
+    public LivePollResults(Long pollId, String title, List<Long> optionIds, List<String> optionTexts, int[] voteCounts) {
+        this.pollId = pollId;
+        this.title = title;
+        this.optionIds = List.copyOf(optionIds);
+        this.optionTexts = List.copyOf(optionTexts);
+        this.voteCounts = new AtomicIntegerArray(voteCounts);
+    }
+
+    /**
+     * Mark votes up to a commit sequence as already included in the loaded counts.
+     *
+     * @param sequence last commit sequence assigned before the counts were read
+     */
+    void coverVotesThrough(long sequence) {
+        loadedThroughSequence = sequence;
+    }
+
+    /**
+     * Add a vote to an option of this poll, unless the loaded counts already include it.
+     *
+     * @param optionId ID of the voted option
+     * @param sequence commit sequence of the vote
+     * @return true if the option belongs to this poll
+     */
+    public boolean increment(Long optionId, long sequence) {
+        int index = optionIds.indexOf(optionId);
+        if (index < 0) {
+            return false;
+        }
+        if (sequence <= loadedThroughSequence) {
+            // Committed before the load read the database
+            return true;
+        }
+        voteCounts.incrementAndGet(index);
+        // Bump after the count, so a reader that sees the new version also sees the vote
+        version.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Get the aggregated results, recomputing percentages only if votes arrived since the last read.
+     *
+     * @return PollResultsResponse with vote counts and percentages
+     */
+    public PollResultsResponse toResponse() {
+        long currentVersion = version.get();
+        Snapshot current = snapshot;
+        if (current != null && current.version() == currentVersion) {
+            return current.response();
+        }
+        // Counts are read after the version, so the response includes every vote up to it
+        PollResultsResponse response = computeResponse();
+        snapshot = new Snapshot(currentVersion, response);
+        return response;
+    }
+
+    private PollResultsResponse computeResponse() {
+        // Copy counts once so totals and percentages are consistent
+        int[] counts = new int[optionIds.size()];
+        int totalVotes = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = voteCounts.get(i);
+            totalVotes += counts[i];
+        }
+
+        List<OptionResultDto> optionResults = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            // Calculate percentage (handle division by zero)
+            double percentage = totalVotes > 0
+                    ? (counts[i] * 100.0 / totalVotes)
+                    : 0.0;
+            // Round to 2 decimal places
+            percentage = Math.round(percentage * 100.0) / 100.0;
+
+            optionResults.add(new OptionResultDto(optionIds.get(i), optionTexts.get(i), counts[i], percentage));
+        }
+
+        return new PollResultsResponse(pollId, title, totalVotes, optionResults);
+    }
+
+    private record Snapshot(long version, PollResultsResponse response) {
+    }
+}
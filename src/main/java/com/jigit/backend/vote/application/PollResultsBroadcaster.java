@@ -0,0 +1,223 @@
+package com.jigit.backend.vote.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jigit.backend.vote.presentation.dto.PollResultsResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pushes live poll results to Server-Sent Events subscribers.
+ * Votes only mark their poll as changed; once per tick each changed poll's results are
+ * read from the results cache, serialized once, and handed to every subscriber of that poll.
+ * Emitters use servlet async mode, so idle connections do not hold a request thread.
+ *
+ * Writes run on a dedicated virtual-thread executor, one sender per subscriber at a time,
+ * so the scheduler tick never blocks on a socket. A subscriber whose write is still in flight
+ * only keeps the newest payload; if a write is stuck longer than send-timeout-ms the
+ * subscriber is dropped, so one slow or dead client cannot hold back the others.
+ */
+@Slf4j
+@Component
+public class PollResultsBroadcaster {
+
+    private static final String RESULTS_EVENT = "results";
+
+    private final VoteService voteService;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMillis;
+    private final long sendTimeoutNanos;
+    private final ExecutorService sendExecutor;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Long> changedPollIds = ConcurrentHashMap.newKeySet();
+
+    public PollResultsBroadcaster(
+            VoteService voteService,
+            ObjectMapper objectMapper,
+            @Value("${vote.results-stream.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+            @Value("${vote.results-stream.send-timeout-ms:5000}") long sendTimeoutMillis
+    ) {
+        this.voteService = voteService;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.sendExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-send-", 0).factory());
+    }
+
+    /**
+     * Register a subscriber for a poll and send the current results immediately.
+     *
+     * @param pollId ID of the poll
+     * @return emitter streaming results events
+     * @throws com.jigit.backend.global.exception.ApplicationException if poll not found
+     */
+    public SseEmitter subscribe(Long pollId) {
+        PollResultsResponse currentResults = voteService.getPollResults(pollId);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(pollId, emitter);
+        subscribers.compute(pollId, (id, pollSubscribers) -> {
+            Set<Subscriber> updated = pollSubscribers != null ? pollSubscribers : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        try {
+            subscriber.offer(serialize(currentResults));
+        } catch (JsonProcessingException e) {
+            unsubscribe(subscriber);
+            emitter.completeWithError(e);
+        }
+
+        log.debug("Results stream subscribed - PollId: {}", pollId);
+        return emitter;
+    }
+
+    /**
+     * Mark a poll as changed once its vote is committed.
+     * Polls without subscribers are ignored.
+     *
+     * @param event the committed vote
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVoteSubmitted(VoteSubmittedEvent event) {
+        if (subscribers.containsKey(event.getPollId())) {
+            changedPollIds.add(event.getPollId());
+        }
+    }
+
+    /**
+     * Broadcast one results event per changed poll.
+     * All votes committed within a tick are coalesced into a single computation and payload.
+     * Only hands payloads to the senders, so the tick does not wait for any client.
+     */
+    @Scheduled(fixedRateString = "${vote.results-stream.tick-ms:250}")
+    public void broadcastChangedResults() {
+        Iterator<Long> iterator = changedPollIds.iterator();
+        while (iterator.hasNext()) {
+            Long pollId = iterator.next();
+            iterator.remove();
+
+            Set<Subscriber> pollSubscribers = subscribers.get(pollId);
+            if (pollSubscribers == null || pollSubscribers.isEmpty()) {
+                continue;
+            }
+
+            String payload;
+            try {
+                payload = serialize(voteService.getPollResults(pollId));
+            } catch (RuntimeException | JsonProcessingException e) {
+                log.error("Results stream broadcast failed - PollId: {}", pollId, e);
+                continue;
+            }
+
+            for (Subscriber subscriber : pollSubscribers) {
+                subscriber.offer(payload);
+            }
+        }
+    }
+
+    /**
+     * Stop sending on shutdown; in-flight writes are interrupted.
+     */
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    private String serialize(PollResultsResponse results) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(results);
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.pollId, (id, pollSubscribers) -> {
+            pollSubscribers.remove(subscriber);
+            return pollSubscribers.isEmpty() ? null : pollSubscribers;
+        });
+    }
+
+    /**
+     * One SSE client. At most one write is in flight; payloads offered meanwhile replace each
+     * other, so the client always ends up with the newest results.
+     */
+    private class Subscriber {
+
+        private final Long pollId;
+        private final SseEmitter emitter;
+        private final AtomicReference<String> pendingPayload = new AtomicReference<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile long sendStartedNanos;
+
+        private Subscriber(Long pollId, SseEmitter emitter) {
+            this.pollId = pollId;
+            this.emitter = emitter;
+        }
+
+        private void offer(String payload) {
+            pendingPayload.set(payload);
+            if (sending.compareAndSet(false, true)) {
+                sendStartedNanos = System.nanoTime();
+                sendExecutor.execute(this::drain);
+            } else if (System.nanoTime() - sendStartedNanos > sendTimeoutNanos) {
+                log.debug("Results stream send timed out, dropping subscriber - PollId: {}", pollId);
+                // Completing waits for the emitter's lock, which the stuck write holds
+                unsubscribe(this);
+                pendingPayload.set(null);
+                sendExecutor.execute(() -> drop(new TimeoutException("SSE send exceeded timeout")));
+            }
+        }
+
+        private void drain() {
+            do {
+                String payload;
+                while ((payload = pendingPayload.getAndSet(null)) != null) {
+                    sendStartedNanos = System.nanoTime();
+                    try {
+                        emitter.send(SseEmitter.event()
+                                .name(RESULTS_EVENT)
+                                .data(payload, MediaType.APPLICATION_JSON));
+                    } catch (IOException | IllegalStateException e) {
+                        // Client disconnected; drop it without affecting the other subscribers
+                        drop(e);
+                        return;
+                    }
+                }
+                sending.set(false);
+                // A payload offered after the last poll but before the flag was cleared is sent here
+            } while (pendingPayload.get() != null && sending.compareAndSet(false, true));
+        }
+
+        private void drop(Exception cause) {
+            unsubscribe(this);
+            pendingPayload.set(null);
+            try {
+                emitter.completeWithError(cause);
+            } catch (RuntimeException ignored) {
+                // Already completed
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.jigit.backend.vote.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jigit.backend.vote.presentation.dto.PollResultsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded in-memory cache of poll results.
+ * Entries are loaded from the database once and then kept current by applying committed
+ * votes in place, so results reads for hot polls do not touch MySQL.
+ *
+ * Every committed vote takes the next commit sequence number right after the vote counter has
+ * seen it. A load notes the sequence before reading, so votes sequenced up to that point are
+ * known to be in the loaded counts and are not applied again. Only a vote whose commit lands
+ * during the read but is sequenced after the load started can still be counted twice, or one
+ * committed while the entry is loading can be missed; the write TTL bounds that drift.
+ */
+@Component
+public class PollResultsCache {
+
+    private final Cache<Long, LivePollResults> cache;
+    private final AtomicLong commitSequence = new AtomicLong();
+
+    public PollResultsCache(
+            @Value("${vote.results-cache.maximum-size:10000}") long maximumSize,
+            @Value("${vote.results-cache.expire-after-write-seconds:30}") long expireAfterWriteSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .build();
+    }
+
+    /**
+     * Get poll results, loading them on a cache miss.
+     * Exceptions thrown by the loader (e.g. poll not found) are propagated and not cached.
+     *
+     * @param pollId ID of the poll
+     * @param loader loads the current tally from the database
+     * @return PollResultsResponse with vote counts and percentages
+     */
+    public PollResultsResponse get(Long pollId, Function<Long, LivePollResults> loader) {
+        return cache.get(pollId, id -> {
+            long loadedThrough = commitSequence.get();
+            LivePollResults results = loader.apply(id);
+            results.coverVotesThrough(loadedThrough);
+            return results;
+        }).toResponse();
+    }
+
+    /**
+     * Sequence a committed vote and apply it to the cached tally, if the poll is cached.
+     * Runs right after the vote counter's listener, so a load that sees this sequence also sees
+     * the vote in the counter's pending counts.
+     *
+     * @param event the committed vote
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVoteSubmitted(VoteSubmittedEvent event) {
+        long sequence = commitSequence.incrementAndGet();
+        LivePollResults results = cache.getIfPresent(event.getPollId());
+        if (results != null && !results.increment(event.getOptionId(), sequence)) {
+            // Unknown option for a cached poll: reload on next read
+            cache.invalidate(event.getPollId());
+        }
+    }
+}
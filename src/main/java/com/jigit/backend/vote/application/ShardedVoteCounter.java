@@ -0,0 +1,160 @@
+package com.jigit.backend.vote.application;
+
+import com.jigit.backend.poll.domain.OptionRepository;
+import com.jigit.backend.vote.domain.OptionVoteShardRepository;
+import com.jigit.backend.vote.domain.OptionVoteShardRepository.ShardCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sharded vote counter, enabled with vote.counter.mode=sharded.
+ * Each vote increments a random one of N counter rows of its option in option_vote_shards,
+ * inside the vote transaction, so concurrent votes for a hot option spread over N row locks
+ * instead of queueing on options.vote_count. Counts are durable as soon as the vote commits.
+ *
+ * Read paths add SUM(vote_count) of the shards to the stored count, and a background job
+ * compacts shard counts back into options.vote_count.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "vote.counter.mode", havingValue = "sharded")
+public class ShardedVoteCounter implements VoteCounter {
+
+    private final OptionVoteShardRepository shardRepository;
+    private final OptionRepository optionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int shardCount;
+    private final int compactionBatchSize;
+
+    public ShardedVoteCounter(
+            OptionVoteShardRepository shardRepository,
+            OptionRepository optionRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${vote.counter.shards:16}") int shardCount,
+            @Value("${vote.counter.compaction-batch-size:1000}") int compactionBatchSize
+    ) {
+        this.shardRepository = shardRepository;
+        this.optionRepository = optionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shardCount = shardCount;
+        this.compactionBatchSize = compactionBatchSize;
+    }
+
+    /**
+     * Recompute vote counts from the votes table, keeping votes that are still in shards
+     * out of the stored count. Shard rows are left alone, so deltas of other live instances
+     * are not lost; compaction folds them in as usual.
+     */
+    @Override
+    public int reconcile() {
+        Integer reconciled = transactionTemplate.execute(status -> optionRepository.reconcileVoteCountsExcludingShards());
+        return reconciled != null ? reconciled : 0;
+    }
+
+    /**
+     * Count a vote within the vote transaction.
+     * Votes of one transaction (e.g. a bulk ingestion) are aggregated per option and
+     * written with one upsert per option just before commit.
+     *
+     * @param event the vote being submitted
+     */
+    @EventListener
+    public void onVoteSubmitted(VoteSubmittedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    shardRepository.addToShard(event.getOptionId(), randomShard(), 1));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Long, Long> deltas = (Map<Long, Long>) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            Map<Long, Long> transactionDeltas = new TreeMap<>();
+            TransactionSynchronizationManager.bindResource(this, transactionDeltas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    transactionDeltas.forEach((optionId, delta) ->
+                            shardRepository.addToShard(optionId, randomShard(), delta));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ShardedVoteCounter.this);
+                }
+            });
+            deltas = transactionDeltas;
+        }
+        deltas.merge(event.getOptionId(), 1L, Long::sum);
+    }
+
+    @Override
+    public Map<Long, Long> getPendingCounts(Collection<Long> optionIds) {
+        if (optionIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> pendingCounts = new HashMap<>();
+        for (ShardCount sum : shardRepository.sumByOptionIds(optionIds)) {
+            if (sum.getVoteCount() != 0) {
+                pendingCounts.put(sum.getOptionId(), sum.getVoteCount());
+            }
+        }
+        return pendingCounts;
+    }
+
+    /**
+     * Fold shard counts into options.vote_count.
+     * Shard rows are locked, added to their option and deleted in one transaction,
+     * so readers see each vote either in a shard or in the option, never both.
+     * Deleting folded rows keeps the table limited to options with recent votes.
+     * Locks are taken in (option_id, shard) order, then options in ID order.
+     */
+    @Scheduled(fixedDelayString = "${vote.counter.compaction-interval-ms:5000}")
+    public void compact() {
+        try {
+            Integer compacted;
+            do {
+                compacted = transactionTemplate.execute(status -> compactBatch());
+            } while (compacted != null && compacted >= compactionBatchSize);
+        } catch (RuntimeException e) {
+            log.error("Vote shard compaction failed, will retry on next run", e);
+        }
+    }
+
+    private int compactBatch() {
+        List<ShardCount> shards = shardRepository.lockPendingShards(compactionBatchSize);
+        if (shards.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> optionDeltas = new TreeMap<>();
+        for (ShardCount shard : shards) {
+            optionDeltas.merge(shard.getOptionId(), shard.getVoteCount(), Long::sum);
+        }
+        optionDeltas.forEach((optionId, delta) -> optionRepository.addVoteCount(optionId, delta.intValue()));
+        for (ShardCount shard : shards) {
+            shardRepository.deleteShard(shard.getOptionId(), shard.getShard());
+        }
+
+        log.debug("Vote shards compacted - Shards: {}, Options: {}", shards.size(), optionDeltas.size());
+        return shards.size();
+    }
+
+    private int randomShard() {
+        return ThreadLocalRandom.current().nextInt(shardCount);
+    }
+}
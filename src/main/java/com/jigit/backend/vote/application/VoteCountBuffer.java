@@ -0,0 +1,139 @@
+package com.jigit.backend.vote.application;
+
+import com.jigit.backend.poll.domain.OptionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind buffer for option vote counts.
+ * Committed votes are absorbed by striped LongAdders keyed by option ID and flushed
+ * to options.vote_count as one batched delta per option on a fixed schedule,
+ * so concurrent voters no longer queue on the same option row lock.
+ *
+ * The votes table stays the source of truth: deltas lost in an unclean shutdown are
+ * recovered by VoteCountReconciler at the next boot. Graceful shutdowns flush the buffer.
+ * Single instance only: the boot reconcile would rewrite counts that another running instance
+ * still holds as buffered deltas, counting those votes twice. Deployments with more than one
+ * instance (or overlapping rolling restarts) must use vote.counter.mode=sharded.
+ * Default counter mode (vote.counter.mode=buffered).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "vote.counter.mode", havingValue = "buffered", matchIfMissing = true)
+public class VoteCountBuffer implements VoteCounter {
+
+    private final OptionRepository optionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+
+    /**
+     * Buffer a vote once its transaction has committed.
+     * Rolled-back votes never reach the counter.
+     * Runs before the other commit listeners, so the vote is in the pending counts by the time
+     * PollResultsCache sequences it.
+     *
+     * @param event the committed vote
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVoteSubmitted(VoteSubmittedEvent event) {
+        add(event.getOptionId(), 1);
+    }
+
+    /**
+     * Add a delta to an option's buffered vote count.
+     *
+     * @param optionId ID of the option
+     * @param delta number of votes to add
+     */
+    public void add(Long optionId, long delta) {
+        pendingDeltas.computeIfAbsent(optionId, id -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * Get votes that are buffered but not yet flushed, so read paths can report current totals.
+     *
+     * @param optionIds IDs of the options to look up
+     * @return map of option ID to pending vote count, containing only options with pending votes
+     */
+    @Override
+    public Map<Long, Long> getPendingCounts(Collection<Long> optionIds) {
+        Map<Long, Long> pendingCounts = new HashMap<>();
+        for (Long optionId : optionIds) {
+            LongAdder delta = pendingDeltas.get(optionId);
+            if (delta == null) {
+                continue;
+            }
+            long pending = delta.sum();
+            if (pending != 0) {
+                pendingCounts.put(optionId, pending);
+            }
+        }
+        return pendingCounts;
+    }
+
+    /**
+     * Recompute vote counts from the votes table.
+     * Runs before requests are served, so the buffer is still empty.
+     */
+    @Override
+    public int reconcile() {
+        Integer reconciled = transactionTemplate.execute(status -> optionRepository.reconcileVoteCounts());
+        return reconciled != null ? reconciled : 0;
+    }
+
+    /**
+     * Flush buffered deltas to options.vote_count in a single transaction.
+     * Options are updated in ID order to keep lock acquisition consistent.
+     * Deltas are restored to the buffer if the flush fails.
+     */
+    @Scheduled(fixedDelayString = "${vote.counter.flush-interval-ms:1000}")
+    public void flush() {
+        Map<Long, Long> deltas = new TreeMap<>();
+        pendingDeltas.forEach((optionId, delta) -> {
+            long value = delta.sumThenReset();
+            if (value != 0) {
+                deltas.put(optionId, value);
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    deltas.forEach((optionId, delta) -> optionRepository.addVoteCount(optionId, delta.intValue())));
+            log.debug("Vote counts flushed - Options: {}", deltas.size());
+        } catch (RuntimeException e) {
+            log.error("Vote count flush failed, deltas will be retried - Options: {}", deltas.size(), e);
+            deltas.forEach(this::add);
+        }
+    }
+
+    /**
+     * Flush remaining deltas on graceful shutdown.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,50 @@
+package com.jigit.backend.vote.application;
+
+import com.jigit.backend.poll.domain.OptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reconciles options.vote_count with the votes table on every boot, so counts lost in a crash
+ * (buffered deltas not yet flushed) are repaired without operator action.
+ * A MySQL named lock keeps instances booting together from reconciling at once;
+ * the one that does not get the lock skips the step.
+ * Disable with vote.counter.reconcile-on-startup=false if the full-table pass is too slow.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "vote.counter.reconcile-on-startup", havingValue = "true", matchIfMissing = true)
+public class VoteCountReconciler implements SmartInitializingSingleton {
+
+    static final String LOCK_NAME = "jjigit.vote_count_reconcile";
+
+    private final VoteCounter voteCounter;
+    private final OptionRepository optionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Reconcile before the web server accepts requests.
+     * The lock, the reconcile and the release share one transaction and therefore one connection.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Integer locked = optionRepository.tryNamedLock(LOCK_NAME);
+            if (locked == null || locked != 1) {
+                log.warn("Vote count reconcile skipped - Another instance holds the reconcile lock");
+                return;
+            }
+            try {
+                int reconciled = voteCounter.reconcile();
+                log.info("Vote counts reconciled from votes table - UpdatedOptions: {}", reconciled);
+            } finally {
+                optionRepository.releaseNamedLock(LOCK_NAME);
+            }
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.jigit.backend.vote.application;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Strategy for counting votes per option.
+ * Implementations keep part of each option's count outside options.vote_count
+ * (in memory or in shard rows) and fold it back periodically; read paths add
+ * these pending counts to the stored vote count to report current totals.
+ *
+ * Selected by vote.counter.mode: "buffered" (default) or "sharded".
+ */
+public interface VoteCounter {
+
+    /**
+     * Get votes that are counted but not yet folded into options.vote_count.
+     *
+     * @param optionIds IDs of the options to look up
+     * @return map of option ID to pending vote count, containing only options with pending votes
+     */
+    Map<Long, Long> getPendingCounts(Collection<Long> optionIds);
+
+    /**
+     * Recompute options.vote_count from the votes table, taking this counter's pending
+     * counts into account. Runs at boot, before this instance counts any vote.
+     *
+     * @return number of options whose vote count was corrected
+     */
+    int reconcile();
+}
@@ -0,0 +1,326 @@
+package com.jigit.backend.vote.application;
+
+import com.jigit.backend.global.exception.ApplicationException;
+import com.jigit.backend.poll.domain.OptionRepository;
+import com.jigit.backend.poll.domain.PollRepository;
+import com.jigit.backend.user.domain.UserRepository;
+import com.jigit.backend.vote.domain.Vote;
+import com.jigit.backend.vote.domain.VoteRepository;
+import com.jigit.backend.vote.exception.VoteException;
+import com.jigit.backend.vote.presentation.dto.VoteResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Asynchronous vote pipeline with group commit, enabled with vote.ingestion.enabled=true.
+ * Votes are validated on the request thread against cached poll metadata,
+ * then placed in a bounded queue. A single writer thread drains the queue and inserts
+ * everything that accumulated during the previous commit in one transaction, so a burst
+ * of votes shares one commit (and one fsync) instead of paying one each.
+ *
+ * When the queue is full the vote is rejected with 429. With vote.ingestion.sync-ack=true
+ * the request waits until its batch has committed; otherwise it returns once queued, and the
+ * acceptance is provisional (202): a queued vote can still be rejected, e.g. as a duplicate.
+ * Such votes are logged and counted in votes.ingestion.dropped{reason}, since no client hears of them.
+ * Duplicate votes are detected per batch with one voter lookup per poll.
+ */
+@Slf4j
+@Component
+public class VoteIngestionQueue implements SmartLifecycle {
+
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final VoteService voteService;
+    private final VoteRepository voteRepository;
+    private final OptionRepository optionRepository;
+    private final PollRepository pollRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final VoteMetrics voteMetrics;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final boolean syncAck;
+    private final long ackTimeoutMs;
+    private final BlockingQueue<PendingVote> queue;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public VoteIngestionQueue(
+            VoteService voteService,
+            VoteRepository voteRepository,
+            OptionRepository optionRepository,
+            PollRepository pollRepository,
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            VoteMetrics voteMetrics,
+            @Value("${vote.ingestion.enabled:false}") boolean enabled,
+            @Value("${vote.ingestion.queue-capacity:10000}") int queueCapacity,
+            @Value("${vote.ingestion.batch-size:500}") int batchSize,
+            @Value("${vote.ingestion.sync-ack:true}") boolean syncAck,
+            @Value("${vote.ingestion.ack-timeout-ms:5000}") long ackTimeoutMs
+    ) {
+        this.voteService = voteService;
+        this.voteRepository = voteRepository;
+        this.optionRepository = optionRepository;
+        this.pollRepository = pollRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.voteMetrics = voteMetrics;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.syncAck = syncAck;
+        this.ackTimeoutMs = ackTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * @return true if votes should be submitted through this queue
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return true if submit waits for the commit; false if it returns once the vote is queued
+     */
+    public boolean isSyncAck() {
+        return syncAck;
+    }
+
+    /**
+     * Validate a vote and queue it for the next group commit.
+     *
+     * @param userId ID of the voting user
+     * @param pollId ID of the poll
+     * @param optionId ID of the selected option
+     * @return VoteResponse once committed (sync ack) or provisionally accepted (queued)
+     * @throws ApplicationException if validation fails, the queue is full,
+     *         the user already voted (sync ack) or the commit is not confirmed in time
+     */
+    public VoteResponse submit(Long userId, Long pollId, Long optionId) {
+        // 1. Validate option belongs to this poll (memory lookup in the poll metadata cache)
+        voteService.validateOption(pollId, optionId);
+
+        // 2. Enqueue, rejecting immediately when the writer cannot keep up
+        PendingVote vote = new PendingVote(userId, pollId, optionId);
+        if (!queue.offer(vote)) {
+            log.warn("Vote rejected - Ingestion queue full: UserId: {}, PollId: {}", userId, pollId);
+            throw new ApplicationException(VoteException.VOTE_QUEUE_FULL);
+        }
+
+        if (!syncAck) {
+            return new VoteResponse("Vote accepted for processing");
+        }
+
+        // 3. Wait for the batch containing this vote to commit
+        try {
+            vote.result.get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+            return new VoteResponse("Vote submitted successfully");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ApplicationException applicationException) {
+                throw applicationException;
+            }
+            throw new IllegalStateException("Vote ingestion failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new ApplicationException(VoteException.VOTE_COMMIT_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApplicationException(VoteException.VOTE_COMMIT_TIMEOUT);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "vote-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Vote ingestion queue started - Capacity: {}, BatchSize: {}, SyncAck: {}",
+                queue.remainingCapacity(), batchSize, syncAck);
+    }
+
+    /**
+     * Stop accepting batches and commit what is already queued.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Vote ingestion queue stopped - Remaining: {}", queue.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Start before and stop after the web server, so no request can enqueue
+     * a vote once the writer has drained the queue.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runWriter() {
+        List<PendingVote> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingVote first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Vote ingestion batch failed - Votes: {}", batch.size(), e);
+                batch.forEach(vote -> fail(vote, e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Insert a batch of votes in one transaction.
+     * Falls back to one transaction per vote if the batch hits a constraint violation
+     * (e.g. a concurrent bulk ingestion), so each vote gets its own outcome.
+     */
+    private void writeBatch(List<PendingVote> batch) {
+        List<PendingVote> accepted = rejectDuplicates(batch);
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Vote> votes = accepted.stream()
+                        .map(vote -> Vote.builder()
+                                .poll(pollRepository.getReferenceById(vote.pollId))
+                                .option(optionRepository.getReferenceById(vote.optionId))
+                                .voter(userRepository.getReferenceById(vote.userId))
+                                .build())
+                        .collect(Collectors.toList());
+                voteRepository.saveAll(votes);
+                voteRepository.flush();
+
+                // Vote counters aggregate these per option within the same commit
+                accepted.forEach(vote ->
+                        eventPublisher.publishEvent(new VoteSubmittedEvent(vote.pollId, vote.optionId, vote.userId)));
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Vote ingestion batch hit a constraint violation, retrying individually - Votes: {}", accepted.size());
+            accepted.forEach(this::writeIndividually);
+            return;
+        }
+
+        accepted.forEach(vote -> vote.result.complete(null));
+        log.debug("Vote ingestion batch committed - Votes: {}", accepted.size());
+    }
+
+    /**
+     * Fail votes from users who already voted on the poll or appear twice in the batch.
+     *
+     * @return votes that may be inserted
+     */
+    private List<PendingVote> rejectDuplicates(List<PendingVote> batch) {
+        Map<Long, List<PendingVote>> votesByPoll = batch.stream()
+                .collect(Collectors.groupingBy(vote -> vote.pollId, LinkedHashMap::new, Collectors.toList()));
+
+        List<PendingVote> accepted = new ArrayList<>(batch.size());
+        votesByPoll.forEach((pollId, pollVotes) -> {
+            Set<Long> voterIds = pollVotes.stream().map(vote -> vote.userId).collect(Collectors.toSet());
+            Set<Long> seenVoters = new HashSet<>(voteRepository.findVoterIdsByPollIdAndVoterIdIn(pollId, voterIds));
+            for (PendingVote vote : pollVotes) {
+                if (seenVoters.add(vote.userId)) {
+                    accepted.add(vote);
+                } else {
+                    voteMetrics.recordDuplicates("queue", 1);
+                    fail(vote, new ApplicationException(VoteException.DUPLICATE_VOTE));
+                }
+            }
+        });
+        return accepted;
+    }
+
+    private void writeIndividually(PendingVote vote) {
+        try {
+            voteService.submitVote(vote.userId, vote.pollId, vote.optionId);
+            vote.result.complete(null);
+        } catch (RuntimeException e) {
+            fail(vote, e);
+        }
+    }
+
+    /**
+     * Complete a vote with its failure.
+     * Without sync ack the client was already told the vote was accepted, so the drop is logged and counted.
+     */
+    private void fail(PendingVote vote, RuntimeException cause) {
+        vote.result.completeExceptionally(cause);
+        if (syncAck) {
+            return;
+        }
+        boolean duplicate = cause instanceof ApplicationException applicationException
+                && applicationException.getExceptionCode() == VoteException.DUPLICATE_VOTE;
+        log.warn("Queued vote dropped - UserId: {}, PollId: {}, Reason: {}",
+                vote.userId, vote.pollId, duplicate ? "duplicate" : cause.getMessage());
+        voteMetrics.recordDroppedQueuedVote(duplicate ? "duplicate" : "error");
+    }
+
+    /**
+     * A validated vote waiting for the writer, completed when its batch commits.
+     */
+    private static final class PendingVote {
+
+        private final Long userId;
+        private final Long pollId;
+        private final Long optionId;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private PendingVote(Long userId, Long pollId, Long optionId) {
+            this.userId = userId;
+            this.pollId = pollId;
+            this.optionId = optionId;
+        }
+    }
+}
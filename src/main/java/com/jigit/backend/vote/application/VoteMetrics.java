@@ -0,0 +1,112 @@
+package com.jigit.backend.vote.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Vote throughput and duplicate-vote metrics.
+ * votes.committed counts every committed vote and votes.duplicates{source} every rejected
+ * duplicate, so their ratio is the duplicate rejection rate.
+ * votes.hot_polls{poll_id} reports votes per second for the top-K polls of the last window;
+ * only those K polls are tagged, which keeps series cardinality bounded.
+ */
+@Component
+public class VoteMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter committedVotes;
+    private final MultiGauge hotPolls;
+    private final int topK;
+    private final AtomicReference<Map<Long, LongAdder>> window = new AtomicReference<>(new ConcurrentHashMap<>());
+
+    private volatile long windowStartNanos = System.nanoTime();
+
+    public VoteMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${vote.metrics.hot-polls.top-k:10}") int topK
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.topK = topK;
+        this.committedVotes = Counter.builder("votes.committed")
+                .description("Committed votes")
+                .register(meterRegistry);
+        this.hotPolls = MultiGauge.builder("votes.hot_polls")
+                .description("Votes per second of the most voted polls in the last window")
+                .baseUnit("votes/s")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Count a committed vote towards throughput and its poll's hot-poll window.
+     *
+     * @param event the committed vote
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVoteSubmitted(VoteSubmittedEvent event) {
+        committedVotes.increment();
+        window.get().computeIfAbsent(event.getPollId(), pollId -> new LongAdder()).increment();
+    }
+
+    /**
+     * Count votes rejected because the user already voted on the poll.
+     *
+     * @param source where the duplicate was detected (single, bulk or queue)
+     * @param count number of rejected votes
+     */
+    public void recordDuplicates(String source, long count) {
+        if (count > 0) {
+            Counter.builder("votes.duplicates")
+                    .description("Votes rejected because the user already voted")
+                    .tag("source", source)
+                    .register(meterRegistry)
+                    .increment(count);
+        }
+    }
+
+    /**
+     * Count a queued vote that was provisionally accepted (async ack) but never committed.
+     *
+     * @param reason why the vote was dropped (duplicate or error)
+     */
+    public void recordDroppedQueuedVote(String reason) {
+        Counter.builder("votes.ingestion.dropped")
+                .description("Provisionally accepted queued votes that were not committed")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Close the current window and publish the top-K polls by vote rate.
+     */
+    @Scheduled(fixedRateString = "${vote.metrics.hot-polls.window-ms:10000}", initialDelayString = "${vote.metrics.hot-polls.window-ms:10000}")
+    public void publishHotPolls() {
+        long now = System.nanoTime();
+        double seconds = Math.max(now - windowStartNanos, 1) / 1_000_000_000.0;
+        windowStartNanos = now;
+        Map<Long, LongAdder> closed = window.getAndSet(new ConcurrentHashMap<>());
+
+        List<MultiGauge.Row<?>> rows = closed.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(topK)
+                .map(entry -> MultiGauge.Row.of(Tags.of("poll_id", String.valueOf(entry.getKey())), entry.getValue() / seconds))
+                .collect(Collectors.toList());
+        hotPolls.register(rows, true);
+    }
+}
@@ -1,28 +1,40 @@
 package com.jigit.backend.vote.application;
 
+import com.jigit.backend.global.datasource.PrimaryRouting;
 import com.jigit.backend.global.exception.ApplicationException;
-import com.jigit.backend.poll.domain.Option;
+import com.jigit.backend.poll.application.PollMetadata;
+import com.jigit.backend.poll.application.PollMetadataCache;
 import com.jigit.backend.poll.domain.OptionRepository;
-import com.jigit.backend.poll.domain.Poll;
+import com.jigit.backend.poll.domain.OptionSummary;
 import com.jigit.backend.poll.domain.PollRepository;
+import com.jigit.backend.poll.domain.PollSummary;
 import com.jigit.backend.poll.exception.PollException;
-import com.jigit.backend.user.domain.User;
 import com.jigit.backend.user.domain.UserRepository;
 import com.jigit.backend.user.exception.UserException;
 import com.jigit.backend.vote.domain.Vote;
 import com.jigit.backend.vote.domain.VoteRepository;
 import com.jigit.backend.vote.exception.VoteException;
-import com.jigit.backend.vote.presentation.dto.OptionResultDto;
+import com.jigit.backend.vote.presentation.dto.BulkVoteItem;
+import com.jigit.backend.vote.presentation.dto.BulkVoteResponse;
 import com.jigit.backend.vote.presentation.dto.PollResultsResponse;
 import com.jigit.backend.vote.presentation.dto.VoteResponse;
 import com.jigit.backend.vote.presentation.dto.VoteStatusResponse;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -35,15 +47,27 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class VoteService {
 
+    private static final int BULK_INSERT_CHUNK_SIZE = 1000;
+
     private final VoteRepository voteRepository;
     private final OptionRepository optionRepository;
     private final PollRepository pollRepository;
     private final UserRepository userRepository;
+    private final VoteCounter voteCounter;
+    private final PollResultsCache pollResultsCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final PollMetadataCache pollMetadataCache;
+    private final VoterFilterCache voterFilterCache;
+    private final VoteMetrics voteMetrics;
 
     /**
      * Submit a vote for a poll option.
      * Enforces 1-vote-per-poll constraint and validates option belongs to poll.
-     * Uses atomic update query for vote count increment to ensure thread-safety.
+     * Option membership is checked against cached poll metadata and poll/option/user are attached
+     * as reference proxies, so the happy path costs a single INSERT.
+     * Duplicate votes are rejected by the uk_voter_poll unique constraint instead of a pre-check.
+     * The option's vote count is incremented by the configured VoteCounter.
      *
      * @param userId ID of the voting user
      * @param pollId ID of the poll
@@ -55,114 +79,222 @@ public class VoteService {
     public VoteResponse submitVote(Long userId, Long pollId, Long optionId) {
         log.info("Vote submission attempt - UserId: {}, PollId: {}, OptionId: {}", userId, pollId, optionId);
 
-        // 1. Check if user already voted on this poll
-        if (voteRepository.existsByVoter_UserIdAndPoll_PollId(userId, pollId)) {
-            log.warn("Vote failed - User already voted: UserId: {}, PollId: {}", userId, pollId);
-            throw new ApplicationException(VoteException.DUPLICATE_VOTE);
+        // 1. Validate option exists and belongs to this poll (memory lookup)
+        validateOption(pollId, optionId);
+
+        // 2. Create vote record with reference proxies (no SELECT for poll, option or user)
+        Vote vote = Vote.builder()
+                .poll(pollRepository.getReferenceById(pollId))
+                .option(optionRepository.getReferenceById(optionId))
+                .voter(userRepository.getReferenceById(userId))
+                .build();
+
+        // 3. Insert vote, relying on the unique constraint to reject duplicates
+        try {
+            voteRepository.saveAndFlush(vote);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateVote(e)) {
+                log.warn("Vote failed - User already voted: UserId: {}, PollId: {}", userId, pollId);
+                voteMetrics.recordDuplicates("single", 1);
+                throw new ApplicationException(VoteException.DUPLICATE_VOTE);
+            }
+            // The only other constraint that can fail is the voter foreign key
+            log.warn("Vote failed - User not found: UserId: {}, PollId: {}", userId, pollId);
+            throw new ApplicationException(UserException.USER_NOT_FOUND);
         }
 
-        // 2. Validate poll exists
-        Poll poll = pollRepository.findById(pollId)
-                .orElseThrow(() -> new ApplicationException(PollException.POLL_NOT_FOUND));
+        // 4. Buffer vote count increment (applied after commit, flushed in batches)
+        eventPublisher.publishEvent(new VoteSubmittedEvent(pollId, optionId, userId));
 
-        // 3. Validate option exists
-        Option option = optionRepository.findById(optionId)
-                .orElseThrow(() -> new ApplicationException(PollException.OPTION_NOT_FOUND));
+        log.info("Vote submitted successfully - UserId: {}, PollId: {}, OptionId: {}", userId, pollId, optionId);
+        return new VoteResponse("Vote submitted successfully");
+    }
 
-        // 4. Validate option belongs to this poll
-        if (!option.getPoll().getPollId().equals(pollId)) {
-            log.warn("Vote failed - Option does not belong to poll: OptionId: {}, PollId: {}", optionId, pollId);
-            throw new ApplicationException(VoteException.INVALID_OPTION);
+    /**
+     * Import a batch of votes for a poll, e.g. when replaying votes collected elsewhere.
+     * Only reachable through the admin-key protected import endpoint, because the votes are
+     * attributed to the given voters. Options and voters are validated with one query each,
+     * voters who already voted (or appear twice in the batch) are skipped, and the remaining votes
+     * are inserted using JDBC batching in chunks to keep the persistence context small.
+     *
+     * @param pollId ID of the poll
+     * @param items votes to ingest
+     * @return BulkVoteResponse with accepted and skipped counts
+     * @throws ApplicationException if the poll, an option or a voter is invalid
+     */
+    @Transactional
+    public BulkVoteResponse submitBulkVotes(Long pollId, List<BulkVoteItem> items) {
+        log.info("Bulk vote import attempt - PollId: {}, VoteCount: {}", pollId, items.size());
+
+        // 1. Validate poll exists
+        PollMetadata poll = pollMetadataCache.getRequired(pollId);
+
+        // 2. Validate every option belongs to this poll
+        for (BulkVoteItem item : items) {
+            if (!poll.hasOption(item.getOptionId())) {
+                log.warn("Bulk vote ingestion failed - Option does not belong to poll: OptionId: {}, PollId: {}",
+                        item.getOptionId(), pollId);
+                throw new ApplicationException(VoteException.INVALID_OPTION);
+            }
         }
 
-        // 5. Fetch user
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApplicationException(UserException.USER_NOT_FOUND));
+        // 3. Validate every voter exists
+        Set<Long> voterIds = new HashSet<>();
+        items.forEach(item -> voterIds.add(item.getVoterId()));
+        if (userRepository.findExistingUserIds(voterIds).size() != voterIds.size()) {
+            throw new ApplicationException(UserException.USER_NOT_FOUND);
+        }
 
-        // 6. Create and save vote record
-        Vote vote = Vote.builder()
-                .poll(poll)
-                .option(option)
-                .voter(user)
-                .build();
-        voteRepository.save(vote);
+        // 4. Skip voters who already voted on this poll or appear twice in the batch
+        Set<Long> votedVoterIds = new HashSet<>(voteRepository.findVoterIdsByPollIdAndVoterIdIn(pollId, voterIds));
+        List<BulkVoteItem> acceptedItems = new ArrayList<>();
+        for (BulkVoteItem item : items) {
+            if (votedVoterIds.add(item.getVoterId())) {
+                acceptedItems.add(item);
+            }
+        }
 
-        // 7. Atomically increment vote count (thread-safe)
-        optionRepository.incrementVoteCount(optionId);
+        // 5. Insert in chunks; each flush is sent as JDBC batches
+        for (int from = 0; from < acceptedItems.size(); from += BULK_INSERT_CHUNK_SIZE) {
+            List<Vote> chunk = acceptedItems.subList(from, Math.min(from + BULK_INSERT_CHUNK_SIZE, acceptedItems.size()))
+                    .stream()
+                    .map(item -> Vote.builder()
+                            .poll(pollRepository.getReferenceById(pollId))
+                            .option(optionRepository.getReferenceById(item.getOptionId()))
+                            .voter(userRepository.getReferenceById(item.getVoterId()))
+                            .build())
+                    .collect(Collectors.toList());
+            voteRepository.saveAll(chunk);
+            voteRepository.flush();
+            entityManager.clear();
+        }
 
-        log.info("Vote submitted successfully - UserId: {}, PollId: {}, OptionId: {}", userId, pollId, optionId);
-        return new VoteResponse("Vote submitted successfully");
+        // 6. Buffer vote count increments (applied after commit)
+        acceptedItems.forEach(item ->
+                eventPublisher.publishEvent(new VoteSubmittedEvent(pollId, item.getOptionId(), item.getVoterId())));
+
+        int skippedCount = items.size() - acceptedItems.size();
+        voteMetrics.recordDuplicates("bulk", skippedCount);
+        log.info("Bulk votes ingested - PollId: {}, Accepted: {}, Skipped: {}", pollId, acceptedItems.size(), skippedCount);
+        return new BulkVoteResponse(acceptedItems.size(), skippedCount);
     }
 
     /**
      * Check if user has voted on a poll.
+     * Users the poll's voter filter rules out are answered without a query;
+     * only possible voters are looked up in the votes table.
      *
      * @param userId ID of the user
      * @param pollId ID of the poll
      * @return VoteStatusResponse with vote status and selected option ID
      * @throws ApplicationException if poll not found
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public VoteStatusResponse checkVoteStatus(Long userId, Long pollId) {
         // Verify poll exists
-        if (!pollRepository.existsById(pollId)) {
-            throw new ApplicationException(PollException.POLL_NOT_FOUND);
+        pollMetadataCache.getRequired(pollId);
+
+        VoterFilterCache.Answer filterAnswer = voterFilterCache.lookup(pollId, userId);
+        if (filterAnswer == VoterFilterCache.Answer.NOT_VOTED) {
+            return new VoteStatusResponse(false, null);
         }
 
-        // Check if user has voted
-        Optional<Vote> vote = voteRepository.findByVoter_UserIdAndPoll_PollId(userId, pollId);
+        // Possible voter (or no filter): confirm against the votes table
+        Optional<Long> optionId = voteRepository.findOptionIdByVoterIdAndPollId(userId, pollId);
 
-        if (vote.isPresent()) {
-            return new VoteStatusResponse(true, vote.get().getOption().getOptionId());
-        } else {
-            return new VoteStatusResponse(false, null);
+        if (optionId.isPresent()) {
+            return new VoteStatusResponse(true, optionId.get());
         }
+        if (filterAnswer == VoterFilterCache.Answer.MAYBE_VOTED) {
+            voterFilterCache.recordFalsePositive();
+        }
+        return new VoteStatusResponse(false, null);
     }
 
     /**
      * Get aggregated poll results with vote counts and percentages.
      * Public endpoint - no authentication required.
+     * Served from PollResultsCache, which is updated in place by committed votes.
+     * Runs without a transaction so cache hits do not check out a database connection.
      *
      * @param pollId ID of the poll
      * @return PollResultsResponse with vote counts and percentages for each option
      * @throws ApplicationException if poll not found
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PollResultsResponse getPollResults(Long pollId) {
+        // Seed from the primary; the cached tally is only advanced by later commits
+        return pollResultsCache.get(pollId, id -> PrimaryRouting.onPrimary(() -> loadPollResults(id)));
+    }
+
+    /**
+     * Load the current vote tally of a poll from the database.
+     * Used to populate PollResultsCache on a miss.
+     */
+    private LivePollResults loadPollResults(Long pollId) {
         // 1. Fetch poll
-        Poll poll = pollRepository.findById(pollId)
+        PollSummary poll = pollRepository.findSummaryById(pollId)
                 .orElseThrow(() -> new ApplicationException(PollException.POLL_NOT_FOUND));
 
-        // 2. Fetch all options with vote counts, ordered by optionOrder
-        List<Option> options = optionRepository.findByPoll_PollIdOrderByOptionOrderAsc(pollId);
-
-        // 3. Calculate total votes across all options
-        int totalVotes = options.stream()
-                .mapToInt(Option::getVoteCount)
-                .sum();
-
-        // 4. Build result DTOs with percentages
-        List<OptionResultDto> optionResults = options.stream()
-                .map(option -> {
-                    // Calculate percentage (handle division by zero)
-                    double percentage = totalVotes > 0
-                            ? (option.getVoteCount() * 100.0 / totalVotes)
-                            : 0.0;
-                    // Round to 2 decimal places
-                    percentage = Math.round(percentage * 100.0) / 100.0;
-
-                    return new OptionResultDto(
-                            option.getOptionId(),
-                            option.getOptionText(),
-                            option.getVoteCount(),
-                            percentage
-                    );
-                })
+        // 2. Fetch all options with vote counts, ordered by optionOrder (read-only projections)
+        List<OptionSummary> options = optionRepository.findSummariesByPollId(pollId);
+        List<Long> optionIds = options.stream()
+                .map(OptionSummary::getOptionId)
                 .collect(Collectors.toList());
 
-        return new PollResultsResponse(
+        // 3. Include votes not yet folded into the stored count by the vote counter
+        Map<Long, Long> pendingCounts = voteCounter.getPendingCounts(optionIds);
+        int[] voteCounts = options.stream()
+                .mapToInt(option -> currentVoteCount(option, pendingCounts))
+                .toArray();
+
+        return new LivePollResults(
                 poll.getPollId(),
                 poll.getTitle(),
-                totalVotes,
-                optionResults
+                optionIds,
+                options.stream().map(OptionSummary::getOptionText).collect(Collectors.toList()),
+                voteCounts
         );
     }
+
+    /**
+     * Stored vote count plus votes still pending in the vote counter.
+     */
+    private int currentVoteCount(OptionSummary option, Map<Long, Long> pendingCounts) {
+        return option.getVoteCount() + pendingCounts.getOrDefault(option.getOptionId(), 0L).intValue();
+    }
+
+    /**
+     * Validate that a poll exists and an option belongs to it, using cached poll metadata.
+     * Runs without a transaction so the check does not check out a database connection;
+     * only a failed membership check queries the database to tell a missing option apart.
+     *
+     * @param pollId ID of the poll
+     * @param optionId ID of the option
+     * @throws ApplicationException if the poll or option does not exist, or the option belongs to another poll
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void validateOption(Long pollId, Long optionId) {
+        PollMetadata poll = pollMetadataCache.getRequired(pollId);
+        if (poll.hasOption(optionId)) {
+            return;
+        }
+        if (!optionRepository.existsById(optionId)) {
+            throw new ApplicationException(PollException.OPTION_NOT_FOUND);
+        }
+        log.warn("Vote failed - Option does not belong to poll: OptionId: {}, PollId: {}", optionId, pollId);
+        throw new ApplicationException(VoteException.INVALID_OPTION);
+    }
+
+    /**
+     * Check whether an integrity violation was raised by the one-vote-per-poll unique constraint.
+     */
+    private boolean isDuplicateVote(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null) {
+            return violation.getConstraintName().contains(Vote.VOTER_POLL_UNIQUE_CONSTRAINT);
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(Vote.VOTER_POLL_UNIQUE_CONSTRAINT);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.jigit.backend.vote.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Event published when a vote is recorded.
+ * Listeners bound to the transaction commit update derived state such as vote counts.
+ */
+@Getter
+@AllArgsConstructor
+public class VoteSubmittedEvent {
+
+    private final Long pollId;
+    private final Long optionId;
+    private final Long voterId;
+}
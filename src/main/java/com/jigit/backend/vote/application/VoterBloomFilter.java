@@ -0,0 +1,116 @@
+package com.jigit.backend.vote.application;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter of the user IDs that voted on one poll.
+ * A negative answer is exact ("definitely not voted"); a positive answer
+ * must be confirmed against the votes table.
+ *
+ * A filter is created empty, receives committed votes while its initial contents are
+ * loaded, and only answers lookups once marked ready.
+ */
+public class VoterBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long capacity;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private volatile boolean ready;
+
+    /**
+     * @param capacity expected number of voters
+     * @param falsePositiveRate target false-positive rate at capacity
+     */
+    public VoterBloomFilter(long capacity, double falsePositiveRate) {
+        // Standard sizing: m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = words * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+        this.capacity = capacity;
+    }
+
+    /**
+     * Record a voter.
+     *
+     * @param userId ID of the user who voted
+     */
+    public void add(long userId) {
+        long hash1 = mix(userId);
+        long hash2 = mix(hash1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            setBit(index);
+        }
+        insertions.incrementAndGet();
+    }
+
+    /**
+     * @param userId ID of the user
+     * @return false if the user has definitely not voted, true if the user may have voted
+     */
+    public boolean mightContain(long userId) {
+        long hash1 = mix(userId);
+        long hash2 = mix(hash1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    /**
+     * @return true once more voters were added than the filter was sized for
+     */
+    public boolean isOverCapacity() {
+        return insertions.get() > capacity;
+    }
+
+    public long getMemoryBytes() {
+        return bitCount / 8;
+    }
+
+    /**
+     * Expected false-positive rate for the current number of voters: (1 - e^(-kn/m))^k.
+     */
+    public double getExpectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions.get() / bitCount), hashCount);
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    /**
+     * SplitMix64 finalizer, spreads sequential IDs across the bit array.
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
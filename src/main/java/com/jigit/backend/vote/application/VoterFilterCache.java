@@ -0,0 +1,179 @@
+package com.jigit.backend.vote.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jigit.backend.global.datasource.PrimaryRouting;
+import com.jigit.backend.vote.domain.VoteRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Per-poll Bloom filters of voter IDs, answering "definitely not voted" without a DB hit.
+ * A filter is registered before its voters are loaded from the votes table, so votes that
+ * commit during the load are added by the listener and never missed.
+ * Filters that outgrow their capacity are dropped and rebuilt at the next lookup.
+ * Only safe with a single application instance: votes committed on another instance never reach
+ * this instance's filters, which would then wrongly answer "not voted". Off by default; enable
+ * vote.voter-filter.enabled only for single-instance deployments.
+ */
+@Component
+public class VoterFilterCache {
+
+    private final VoteRepository voteRepository;
+    private final Cache<Long, VoterBloomFilter> cache;
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    private final long minCapacity;
+
+    private final Counter definitelyNotVoted;
+    private final Counter possiblyVoted;
+    private final Counter falsePositives;
+
+    public VoterFilterCache(
+            VoteRepository voteRepository,
+            MeterRegistry meterRegistry,
+            @Value("${vote.voter-filter.enabled:false}") boolean enabled,
+            @Value("${vote.voter-filter.maximum-polls:1000}") long maximumPolls,
+            @Value("${vote.voter-filter.expire-after-access-minutes:30}") long expireAfterAccessMinutes,
+            @Value("${vote.voter-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${vote.voter-filter.min-capacity:1024}") long minCapacity
+    ) {
+        this.voteRepository = voteRepository;
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+        this.minCapacity = minCapacity;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumPolls)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .build();
+
+        this.definitelyNotVoted = Counter.builder("vote.voter_filter.lookups")
+                .tag("result", "negative")
+                .description("Vote status checks answered by the voter filter without a query")
+                .register(meterRegistry);
+        this.possiblyVoted = Counter.builder("vote.voter_filter.lookups")
+                .tag("result", "positive")
+                .description("Vote status checks the voter filter passed on to the database")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("vote.voter_filter.false_positives")
+                .description("Positive voter filter answers the database did not confirm")
+                .register(meterRegistry);
+        Gauge.builder("vote.voter_filter.memory", this, VoterFilterCache::memoryBytes)
+                .baseUnit("bytes")
+                .description("Memory held by voter filter bit arrays")
+                .register(meterRegistry);
+        Gauge.builder("vote.voter_filter.polls", cache, c -> c.estimatedSize())
+                .description("Polls with a voter filter in memory")
+                .register(meterRegistry);
+        Gauge.builder("vote.voter_filter.expected_fpp", this, VoterFilterCache::maxExpectedFalsePositiveRate)
+                .description("Highest expected false-positive rate across voter filters")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ask the poll's filter whether a user may have voted.
+     * Builds the poll's filter on first use.
+     *
+     * @param pollId ID of the poll
+     * @param userId ID of the user
+     * @return NOT_VOTED if the user has definitely not voted, MAYBE_VOTED if the filter matched,
+     *         UNKNOWN if the filter is disabled or still loading
+     */
+    public Answer lookup(Long pollId, Long userId) {
+        if (!enabled) {
+            return Answer.UNKNOWN;
+        }
+        VoterBloomFilter filter = cache.getIfPresent(pollId);
+        if (filter == null) {
+            // Read from the primary: votes missing from a lagging replica would never be added
+            filter = PrimaryRouting.onPrimary(() -> build(pollId));
+        }
+        if (!filter.isReady()) {
+            return Answer.UNKNOWN;
+        }
+        if (filter.mightContain(userId)) {
+            possiblyVoted.increment();
+            return Answer.MAYBE_VOTED;
+        }
+        definitelyNotVoted.increment();
+        return Answer.NOT_VOTED;
+    }
+
+    /**
+     * Record a MAYBE_VOTED answer that the database did not confirm.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * Add a committed vote to the poll's filter, if one is in memory.
+     *
+     * @param event the committed vote
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVoteSubmitted(VoteSubmittedEvent event) {
+        VoterBloomFilter filter = cache.getIfPresent(event.getPollId());
+        if (filter == null) {
+            return;
+        }
+        filter.add(event.getVoterId());
+        if (filter.isOverCapacity()) {
+            // False-positive rate degrades past capacity: rebuild larger on next lookup
+            cache.asMap().remove(event.getPollId(), filter);
+        }
+    }
+
+    private VoterBloomFilter build(Long pollId) {
+        long capacity = Math.max(minCapacity, voteRepository.countByPoll_PollId(pollId) * 2);
+        VoterBloomFilter created = new VoterBloomFilter(capacity, falsePositiveRate);
+        VoterBloomFilter existing = cache.asMap().putIfAbsent(pollId, created);
+        if (existing != null) {
+            // Another request is building or has built this filter
+            return existing;
+        }
+        try {
+            for (Long voterId : voteRepository.findVoterIdsByPollId(pollId)) {
+                created.add(voterId);
+            }
+            created.markReady();
+        } catch (RuntimeException e) {
+            cache.asMap().remove(pollId, created);
+            throw e;
+        }
+        return created;
+    }
+
+    private double memoryBytes() {
+        return cache.asMap().values().stream()
+                .mapToLong(VoterBloomFilter::getMemoryBytes)
+                .sum();
+    }
+
+    private double maxExpectedFalsePositiveRate() {
+        return cache.asMap().values().stream()
+                .filter(VoterBloomFilter::isReady)
+                .mapToDouble(VoterBloomFilter::getExpectedFalsePositiveRate)
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * Answer of a voter filter lookup.
+     */
+    public enum Answer {
+        /** Not in the filter: the user has definitely not voted */
+        NOT_VOTED,
+        /** In the filter: the user has voted, or this is a false positive */
+        MAYBE_VOTED,
+        /** No filter available (disabled or still loading) */
+        UNKNOWN
+    }
+}
@@ -0,0 +1,46 @@
+package com.jigit.backend.vote.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * One of several counter rows for an option's not-yet-compacted votes.
+ * Used by the sharded vote counter so concurrent votes for the same option
+ * update different rows instead of contending for one row lock.
+ * Rows are created and updated with native upserts only.
+ */
+@Entity
+@Table(name = "option_vote_shards")
+@IdClass(OptionVoteShard.ShardKey.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OptionVoteShard {
+
+    @Id
+    @Column(name = "option_id")
+    private Long optionId;
+
+    @Id
+    @Column(name = "shard")
+    private Integer shard;
+
+    @Column(name = "vote_count", nullable = false)
+    private Long voteCount;
+
+    /**
+     * Composite primary key (option_id, shard).
+     */
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class ShardKey implements Serializable {
+
+        private Long optionId;
+        private Integer shard;
+    }
+}
@@ -0,0 +1,87 @@
+package com.jigit.backend.vote.domain;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for sharded vote counter rows.
+ * All statements are native MySQL so increments are single-statement upserts.
+ * Updates declare option_vote_shards as their query space; otherwise Hibernate would
+ * evict every second-level cache region on each native update.
+ */
+@Repository
+public interface OptionVoteShardRepository extends JpaRepository<OptionVoteShard, OptionVoteShard.ShardKey> {
+
+    /**
+     * Add votes to one shard of an option, creating the shard row if needed.
+     *
+     * @param optionId ID of the option
+     * @param shard shard index
+     * @param delta number of votes to add
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "option_vote_shards"))
+    @Query(value = "INSERT INTO option_vote_shards (option_id, shard, vote_count) VALUES (:optionId, :shard, :delta) "
+            + "ON DUPLICATE KEY UPDATE vote_count = vote_count + :delta",
+            nativeQuery = true)
+    void addToShard(@Param("optionId") Long optionId, @Param("shard") int shard, @Param("delta") long delta);
+
+    /**
+     * Sum the shard counts of several options.
+     *
+     * @param optionIds IDs of the options
+     * @return one row per option that has shard rows
+     */
+    @Query(value = "SELECT option_id AS optionId, CAST(SUM(vote_count) AS SIGNED) AS voteCount FROM option_vote_shards "
+            + "WHERE option_id IN (:optionIds) GROUP BY option_id",
+            nativeQuery = true)
+    List<ShardCount> sumByOptionIds(@Param("optionIds") Collection<Long> optionIds);
+
+    /**
+     * Lock a batch of shard rows for compaction, in primary key order to keep lock order consistent.
+     * Compaction deletes the rows it folds, so every remaining row holds pending votes and the
+     * scan walks the primary key and stops at the limit.
+     *
+     * @param limit maximum number of shard rows
+     * @return locked shard rows
+     */
+    @Query(value = "SELECT option_id AS optionId, shard AS shard, vote_count AS voteCount FROM option_vote_shards "
+            + "ORDER BY option_id, shard LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<ShardCount> lockPendingShards(@Param("limit") int limit);
+
+    /**
+     * Delete a compacted shard row.
+     * Only called for rows locked by the compaction transaction, whose whole count was
+     * folded into options.vote_count; the next vote on the shard creates the row again.
+     *
+     * @param optionId ID of the option
+     * @param shard shard index
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "option_vote_shards"))
+    @Query(value = "DELETE FROM option_vote_shards WHERE option_id = :optionId AND shard = :shard",
+            nativeQuery = true)
+    void deleteShard(@Param("optionId") Long optionId, @Param("shard") int shard);
+
+    /**
+     * Projection of a shard row, or of an option's summed shards (shard is null).
+     */
+    interface ShardCount {
+
+        Long getOptionId();
+
+        Integer getShard();
+
+        Long getVoteCount();
+    }
+}
@@ -17,17 +17,28 @@ import java.time.LocalDateTime;
     name = "votes",
     uniqueConstraints = {
         @UniqueConstraint(
-            name = "uk_voter_poll",
+            name = Vote.VOTER_POLL_UNIQUE_CONSTRAINT,
             columnNames = {"voter_id", "poll_id"}
         )
+    },
+    indexes = {
+        @Index(name = "idx_votes_poll_voter", columnList = "poll_id, voter_id"),
+        @Index(name = "idx_votes_poll_option", columnList = "poll_id, option_id")
     }
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Vote {
 
+    /**
+     * Unique constraint enforcing one vote per user per poll.
+     * Duplicate votes are detected by catching violations of this constraint.
+     */
+    public static final String VOTER_POLL_UNIQUE_CONSTRAINT = "uk_voter_poll";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "votes_seq")
+    @SequenceGenerator(name = "votes_seq", sequenceName = "votes_seq", allocationSize = 50)
     @Column(name = "vote_id")
     private Long voteId;
 
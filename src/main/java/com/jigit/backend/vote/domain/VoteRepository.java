@@ -1,8 +1,11 @@
 package com.jigit.backend.vote.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,4 +44,44 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
      * @return List of votes matching the criteria
      */
     List<Vote> findByPoll_PollIdAndVoter_UserIdIn(Long pollId, List<Long> userIds);
-}
\ No newline at end of file
+
+    /**
+     * Find which of the given users have already voted on a poll.
+     * Selects voter IDs only, so no vote entities are loaded.
+     *
+     * @param pollId ID of the poll
+     * @param voterIds IDs of the users to check
+     * @return IDs of users who have voted on the poll
+     */
+    @Query("SELECT v.voter.userId FROM Vote v WHERE v.poll.pollId = :pollId AND v.voter.userId IN :voterIds")
+    List<Long> findVoterIdsByPollIdAndVoterIdIn(@Param("pollId") Long pollId,
+                                               @Param("voterIds") Collection<Long> voterIds);
+
+    /**
+     * Find the option a user voted for on a poll without loading the vote entity.
+     *
+     * @param userId ID of the user
+     * @param pollId ID of the poll
+     * @return Optional containing the voted option ID, empty if the user has not voted
+     */
+    @Query("SELECT v.option.optionId FROM Vote v WHERE v.voter.userId = :userId AND v.poll.pollId = :pollId")
+    Optional<Long> findOptionIdByVoterIdAndPollId(@Param("userId") Long userId, @Param("pollId") Long pollId);
+
+    /**
+     * Count the votes cast on a poll.
+     *
+     * @param pollId ID of the poll
+     * @return number of votes
+     */
+    long countByPoll_PollId(Long pollId);
+
+    /**
+     * Find the IDs of all users who voted on a poll.
+     * Used to build the per-poll voter Bloom filter.
+     *
+     * @param pollId ID of the poll
+     * @return IDs of users who have voted on the poll
+     */
+    @Query("SELECT v.voter.userId FROM Vote v WHERE v.poll.pollId = :pollId")
+    List<Long> findVoterIdsByPollId(@Param("pollId") Long pollId);
+}
@@ -10,7 +10,9 @@ public enum VoteException implements ExceptionCode {
     VOTE_NOT_FOUND(HttpStatus.NOT_FOUND, "Vote Not Found", "The requested vote does not exist."),
     DUPLICATE_VOTE(HttpStatus.CONFLICT, "Duplicate Vote", "You have already voted on this poll."),
     INVALID_OPTION(HttpStatus.BAD_REQUEST, "Invalid Option", "The selected option does not belong to this poll."),
-    POLL_NOT_ACCESSIBLE(HttpStatus.FORBIDDEN, "Poll Not Accessible", "This poll is not accessible.");
+    POLL_NOT_ACCESSIBLE(HttpStatus.FORBIDDEN, "Poll Not Accessible", "This poll is not accessible."),
+    VOTE_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "Vote Queue Full", "Too many votes are being processed. Please try again shortly."),
+    VOTE_COMMIT_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "Vote Commit Timeout", "The vote was queued but could not be confirmed in time.");
 
     private final HttpStatus httpStatus;
     private final String title;
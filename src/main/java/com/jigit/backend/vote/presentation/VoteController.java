@@ -1,15 +1,23 @@
 package com.jigit.backend.vote.presentation;
 
+import com.jigit.backend.global.auth.AdminKeyVerifier;
 import com.jigit.backend.global.auth.CurrentUser;
+import com.jigit.backend.global.metrics.QueryBudget;
+import com.jigit.backend.vote.application.PollResultsBroadcaster;
+import com.jigit.backend.vote.application.VoteIngestionQueue;
 import com.jigit.backend.vote.application.VoteService;
+import com.jigit.backend.vote.presentation.dto.BulkVoteRequest;
+import com.jigit.backend.vote.presentation.dto.BulkVoteResponse;
 import com.jigit.backend.vote.presentation.dto.PollResultsResponse;
 import com.jigit.backend.vote.presentation.dto.VoteRequest;
 import com.jigit.backend.vote.presentation.dto.VoteResponse;
 import com.jigit.backend.vote.presentation.dto.VoteStatusResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * REST controller for vote-related endpoints.
@@ -21,6 +29,9 @@ import org.springframework.web.bind.annotation.*;
 public class VoteController implements VoteControllerDocs {
 
     private final VoteService voteService;
+    private final PollResultsBroadcaster pollResultsBroadcaster;
+    private final VoteIngestionQueue voteIngestionQueue;
+    private final AdminKeyVerifier adminKeyVerifier;
 
     /**
      * Submit a vote for a poll option.
@@ -32,13 +43,42 @@ public class VoteController implements VoteControllerDocs {
      * @return ResponseEntity with vote confirmation message
      */
     @Override
+    @QueryBudget(6)
     @PostMapping("/{pollId}/vote")
     public ResponseEntity<VoteResponse> submitVote(
             @PathVariable Long pollId,
             @Valid @RequestBody VoteRequest request,
             @CurrentUser Long userId
     ) {
-        VoteResponse response = voteService.submitVote(userId, pollId, request.getOptionId());
+        // Group-committed through the ingestion queue when enabled
+        if (voteIngestionQueue.isEnabled()) {
+            VoteResponse response = voteIngestionQueue.submit(userId, pollId, request.getOptionId());
+            // Without sync ack the vote is only queued and may still be rejected (e.g. as a duplicate)
+            return voteIngestionQueue.isSyncAck()
+                    ? ResponseEntity.ok(response)
+                    : ResponseEntity.accepted().body(response);
+        }
+        return ResponseEntity.ok(voteService.submitVote(userId, pollId, request.getOptionId()));
+    }
+
+    /**
+     * Import a batch of votes for a poll, e.g. votes collected offline.
+     * Internal admin endpoint; requires the X-Admin-Key header instead of a user token.
+     *
+     * @param pollId ID of the poll
+     * @param request Bulk request containing voter and option IDs
+     * @param adminKey value of the X-Admin-Key header
+     * @return ResponseEntity with accepted and skipped vote counts
+     */
+    @Override
+    @PostMapping("/{pollId}/votes/bulk")
+    public ResponseEntity<BulkVoteResponse> submitBulkVotes(
+            @PathVariable Long pollId,
+            @Valid @RequestBody BulkVoteRequest request,
+            @RequestHeader(value = AdminKeyVerifier.HEADER, required = false) String adminKey
+    ) {
+        adminKeyVerifier.verify(adminKey);
+        BulkVoteResponse response = voteService.submitBulkVotes(pollId, request.getVotes());
         return ResponseEntity.ok(response);
     }
 
@@ -51,6 +91,7 @@ public class VoteController implements VoteControllerDocs {
      * @return ResponseEntity with vote status and selected option ID
      */
     @Override
+    @QueryBudget(5)
     @GetMapping("/{pollId}/voted")
     public ResponseEntity<VoteStatusResponse> checkVoteStatus(
             @PathVariable Long pollId,
@@ -68,6 +109,7 @@ public class VoteController implements VoteControllerDocs {
      * @return ResponseEntity with poll results including vote counts and percentages
      */
     @Override
+    @QueryBudget(3)
     @GetMapping("/{pollId}/results")
     public ResponseEntity<PollResultsResponse> getPollResults(
             @PathVariable Long pollId
@@ -75,4 +117,20 @@ public class VoteController implements VoteControllerDocs {
         PollResultsResponse response = voteService.getPollResults(pollId);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Stream live poll results as Server-Sent Events.
+     * Public endpoint - no authentication required.
+     * Sends the current results immediately, then at most one update per tick while votes arrive.
+     *
+     * @param pollId ID of the poll
+     * @return SseEmitter emitting "results" events with PollResultsResponse payloads
+     */
+    @Override
+    @GetMapping(value = "/{pollId}/results/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPollResults(
+            @PathVariable Long pollId
+    ) {
+        return pollResultsBroadcaster.subscribe(pollId);
+    }
+}
@@ -2,6 +2,8 @@ package com.jigit.backend.vote.presentation;
 
 import com.jigit.backend.global.auth.CurrentUser;
 import com.jigit.backend.global.exception.ErrorResponse;
+import com.jigit.backend.vote.presentation.dto.BulkVoteRequest;
+import com.jigit.backend.vote.presentation.dto.BulkVoteResponse;
 import com.jigit.backend.vote.presentation.dto.PollResultsResponse;
 import com.jigit.backend.vote.presentation.dto.VoteRequest;
 import com.jigit.backend.vote.presentation.dto.VoteResponse;
@@ -16,6 +18,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Swagger documentation interface for Vote API endpoints.
@@ -25,7 +29,10 @@ public interface VoteControllerDocs {
 
     @Operation(
             summary = "투표하기",
-            description = "투표의 특정 옵션에 투표합니다. 한 사용자는 한 투표당 한 번만 투표할 수 있습니다."
+            description = "투표의 특정 옵션에 투표합니다. 한 사용자는 한 투표당 한 번만 투표할 수 있습니다.\n\n"
+                    + "비동기 투표 처리(vote.ingestion.enabled)가 켜져 있으면 투표는 대기열에 들어가 묶음 단위로 저장됩니다. "
+                    + "대기열이 가득 차면 429를 반환하며, 커밋 확인 모드(sync-ack)에서 제한 시간 안에 저장이 확인되지 않으면 503을 반환합니다. "
+                    + "sync-ack가 꺼져 있으면 대기열에 들어간 즉시 202를 반환하며, 이후 중복 투표 등으로 저장되지 않을 수 있습니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -33,6 +40,11 @@ public interface VoteControllerDocs {
                     description = "투표 성공",
                     content = @Content(schema = @Schema(implementation = VoteResponse.class))
             ),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "투표 접수됨 (sync-ack 꺼짐) - 아직 저장 전이며 중복 투표 등으로 거부될 수 있음",
+                    content = @Content(schema = @Schema(implementation = VoteResponse.class))
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "인증 필요 - JWT 토큰이 유효하지 않거나 누락됨",
@@ -47,6 +59,16 @@ public interface VoteControllerDocs {
                     responseCode = "409",
                     description = "이미 이 투표에 참여함",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "투표 대기열이 가득 참 - 잠시 후 다시 시도",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "투표가 대기열에 들어갔으나 제한 시간 내 저장이 확인되지 않음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
     ResponseEntity<VoteResponse> submitVote(
@@ -56,6 +78,42 @@ public interface VoteControllerDocs {
             @Parameter(hidden = true) @CurrentUser Long userId
     );
 
+    @Operation(
+            summary = "투표 일괄 등록",
+            description = "다른 곳에서 수집한 투표를 한 번에 등록하는 내부 관리자용 API입니다. "
+                    + "`X-Admin-Key` 헤더에 관리자 키가 필요하며, 최대 10000건까지 요청할 수 있습니다. "
+                    + "이미 투표한 사용자나 요청 내 중복 사용자는 건너뜁니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "일괄 등록 성공",
+                    content = @Content(schema = @Schema(implementation = BulkVoteResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 - 옵션이 이 투표에 속하지 않음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "관리자 키가 없거나 일치하지 않음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "투표 또는 사용자를 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    ResponseEntity<BulkVoteResponse> submitBulkVotes(
+            @Parameter(description = "투표 ID", example = "1")
+            @PathVariable Long pollId,
+            @RequestBody BulkVoteRequest request,
+            @Parameter(description = "관리자 키", required = true)
+            @RequestHeader(value = "X-Admin-Key", required = false) String adminKey
+    );
+
     @Operation(
             summary = "투표 여부 확인",
             description = "현재 사용자가 이 투표에 참여했는지 확인합니다."
@@ -103,4 +161,30 @@ public interface VoteControllerDocs {
             @Parameter(description = "투표 ID", example = "1")
             @PathVariable Long pollId
     );
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "투표 결과 실시간 스트림",
+            description = "Server-Sent Events로 투표 결과를 실시간 수신합니다. 연결 직후 현재 결과를 전송하고, "
+                    + "이후 투표가 발생하면 일정 주기(기본 250ms)마다 변경된 결과를 한 번씩 `results` 이벤트로 전송합니다. "
+                    + "인증 불필요 (공개 엔드포인트)."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "스트림 연결 성공 (이벤트 데이터: PollResultsResponse)",
+                    content = @Content(
+                            mediaType = "text/event-stream",
+                            schema = @Schema(implementation = PollResultsResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "투표를 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    SseEmitter streamPollResults(
+            @Parameter(description = "투표 ID", example = "1")
+            @PathVariable Long pollId
+    );
+}
@@ -0,0 +1,22 @@
+package com.jigit.backend.vote.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Single vote entry in a bulk ingestion request")
+public class BulkVoteItem {
+
+    @NotNull(message = "Voter ID is required")
+    @Schema(description = "ID of the voting user", example = "7")
+    private Long voterId;
+
+    @NotNull(message = "Option ID is required")
+    @Schema(description = "ID of the selected option", example = "1")
+    private Long optionId;
+}
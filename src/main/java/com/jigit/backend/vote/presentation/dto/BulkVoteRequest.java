@@ -0,0 +1,24 @@
+package com.jigit.backend.vote.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Bulk vote ingestion request")
+public class BulkVoteRequest {
+
+    @Valid
+    @NotEmpty(message = "Votes are required")
+    @Size(max = 10000, message = "At most 10000 votes can be ingested per request")
+    @Schema(description = "Votes to ingest (maximum 10000)")
+    private List<BulkVoteItem> votes;
+}
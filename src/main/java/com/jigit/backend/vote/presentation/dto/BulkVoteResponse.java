@@ -0,0 +1,17 @@
+package com.jigit.backend.vote.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Bulk vote ingestion response")
+public class BulkVoteResponse {
+
+    @Schema(description = "Number of votes inserted", example = "9998")
+    private Integer acceptedCount;
+
+    @Schema(description = "Number of votes skipped because the voter already voted", example = "2")
+    private Integer skippedCount;
+}
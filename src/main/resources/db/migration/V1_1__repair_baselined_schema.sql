@@ -0,0 +1,59 @@
+-- Databases baselined at V1 were created by ddl-auto: update before sequence generation,
+-- vote shards and keyset indexes existed, so V1 never ran on them and these objects are missing.
+-- Every statement is a no-op where the object already exists, so fresh databases are unaffected.
+-- Runs before V2 on baselined databases; spring.flyway.out-of-order also applies it to
+-- databases that had already moved past V1 when it was added.
+
+CREATE TABLE IF NOT EXISTS option_vote_shards (
+    option_id  BIGINT NOT NULL,
+    shard      INT    NOT NULL,
+    vote_count BIGINT NOT NULL,
+    PRIMARY KEY (option_id, shard)
+) ENGINE = InnoDB;
+
+-- Pooled ID sequences, seeded past the rows inserted with AUTO_INCREMENT
+CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS polls_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS options_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS votes_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS comments_seq (next_val BIGINT) ENGINE = InnoDB;
+
+-- The derived table keeps the aggregate from yielding a row when the sequence is already seeded
+INSERT INTO users_seq (next_val)
+SELECT next_val FROM (SELECT COALESCE(MAX(user_id), 0) + 51 AS next_val FROM users) seed
+WHERE NOT EXISTS (SELECT 1 FROM users_seq);
+INSERT INTO polls_seq (next_val)
+SELECT next_val FROM (SELECT COALESCE(MAX(poll_id), 0) + 51 AS next_val FROM polls) seed
+WHERE NOT EXISTS (SELECT 1 FROM polls_seq);
+INSERT INTO options_seq (next_val)
+SELECT next_val FROM (SELECT COALESCE(MAX(option_id), 0) + 51 AS next_val FROM options) seed
+WHERE NOT EXISTS (SELECT 1 FROM options_seq);
+INSERT INTO votes_seq (next_val)
+SELECT next_val FROM (SELECT COALESCE(MAX(vote_id), 0) + 51 AS next_val FROM votes) seed
+WHERE NOT EXISTS (SELECT 1 FROM votes_seq);
+INSERT INTO comments_seq (next_val)
+SELECT next_val FROM (SELECT COALESCE(MAX(comment_id), 0) + 51 AS next_val FROM comments) seed
+WHERE NOT EXISTS (SELECT 1 FROM comments_seq);
+
+-- MySQL has no CREATE INDEX IF NOT EXISTS; check information_schema and skip when present
+SET @create_index = (
+    SELECT IF(COUNT(*) = 0,
+              'CREATE INDEX idx_polls_public_created ON polls (is_public, created_at, poll_id)',
+              'SELECT 1')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'polls' AND index_name = 'idx_polls_public_created'
+);
+PREPARE create_index_stmt FROM @create_index;
+EXECUTE create_index_stmt;
+DEALLOCATE PREPARE create_index_stmt;
+
+SET @create_index = (
+    SELECT IF(COUNT(*) = 0,
+              'CREATE INDEX idx_comments_poll_created ON comments (poll_id, created_at, comment_id)',
+              'SELECT 1')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'comments' AND index_name = 'idx_comments_poll_created'
+);
+PREPARE create_index_stmt FROM @create_index;
+EXECUTE create_index_stmt;
+DEALLOCATE PREPARE create_index_stmt;
@@ -0,0 +1,78 @@
+-- Baseline schema matching the entities as previously generated by ddl-auto: update.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate)
+-- and start migrating from V2.
+
+CREATE TABLE users (
+    user_id       BIGINT       NOT NULL,
+    username      VARCHAR(100) NOT NULL,
+    password_hash VARCHAR(255) NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE = InnoDB;
+
+CREATE TABLE polls (
+    poll_id    BIGINT       NOT NULL,
+    creator_id BIGINT       NOT NULL,
+    title      VARCHAR(255) NOT NULL,
+    is_public  BIT          NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (poll_id),
+    INDEX idx_polls_public_created (is_public, created_at, poll_id),
+    CONSTRAINT fk_polls_creator FOREIGN KEY (creator_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE options (
+    option_id    BIGINT       NOT NULL,
+    poll_id      BIGINT       NOT NULL,
+    option_text  VARCHAR(255) NOT NULL,
+    option_order INT          NOT NULL,
+    vote_count   INT          NOT NULL,
+    PRIMARY KEY (option_id),
+    CONSTRAINT fk_options_poll FOREIGN KEY (poll_id) REFERENCES polls (poll_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE votes (
+    vote_id   BIGINT      NOT NULL,
+    poll_id   BIGINT      NOT NULL,
+    option_id BIGINT      NOT NULL,
+    voter_id  BIGINT      NOT NULL,
+    voted_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (vote_id),
+    CONSTRAINT uk_voter_poll UNIQUE (voter_id, poll_id),
+    CONSTRAINT fk_votes_poll FOREIGN KEY (poll_id) REFERENCES polls (poll_id),
+    CONSTRAINT fk_votes_option FOREIGN KEY (option_id) REFERENCES options (option_id),
+    CONSTRAINT fk_votes_voter FOREIGN KEY (voter_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comments (
+    comment_id BIGINT      NOT NULL,
+    poll_id    BIGINT      NOT NULL,
+    voter_id   BIGINT      NOT NULL,
+    content    TEXT        NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (comment_id),
+    INDEX idx_comments_poll_created (poll_id, created_at, comment_id),
+    CONSTRAINT fk_comments_poll FOREIGN KEY (poll_id) REFERENCES polls (poll_id),
+    CONSTRAINT fk_comments_author FOREIGN KEY (voter_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE option_vote_shards (
+    option_id  BIGINT NOT NULL,
+    shard      INT    NOT NULL,
+    vote_count BIGINT NOT NULL,
+    PRIMARY KEY (option_id, shard)
+) ENGINE = InnoDB;
+
+-- Pooled ID sequences, emulated with tables on MySQL
+CREATE TABLE users_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE polls_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE options_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE votes_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE comments_seq (next_val BIGINT) ENGINE = InnoDB;
+
+INSERT INTO users_seq VALUES (1);
+INSERT INTO polls_seq VALUES (1);
+INSERT INTO options_seq VALUES (1);
+INSERT INTO votes_seq VALUES (1);
+INSERT INTO comments_seq VALUES (1);
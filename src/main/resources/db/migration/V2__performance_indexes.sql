@@ -0,0 +1,21 @@
+-- Composite indexes for the hot read paths.
+-- comments(poll_id, created_at) and polls(is_public, created_at) are already covered by
+-- idx_comments_poll_created and idx_polls_public_created from V1.
+
+-- Voter lookups per poll (vote status, voter filter build, duplicate checks in batches);
+-- uk_voter_poll leads with voter_id and cannot serve poll-first lookups
+CREATE INDEX idx_votes_poll_voter ON votes (poll_id, voter_id);
+
+-- Per-option tallies of a poll (vote count reconciliation, results)
+CREATE INDEX idx_votes_poll_option ON votes (poll_id, option_id);
+
+-- Options of a poll in display order
+CREATE INDEX idx_options_poll_order ON options (poll_id, option_order);
+
+-- Move pooled ID sequences past rows inserted before sequence generation was introduced
+-- (previously done on every startup)
+UPDATE users_seq SET next_val = GREATEST(next_val, COALESCE((SELECT MAX(user_id) FROM users) + 51, next_val));
+UPDATE polls_seq SET next_val = GREATEST(next_val, COALESCE((SELECT MAX(poll_id) FROM polls) + 51, next_val));
+UPDATE options_seq SET next_val = GREATEST(next_val, COALESCE((SELECT MAX(option_id) FROM options) + 51, next_val));
+UPDATE votes_seq SET next_val = GREATEST(next_val, COALESCE((SELECT MAX(vote_id) FROM votes) + 51, next_val));
+UPDATE comments_seq SET next_val = GREATEST(next_val, COALESCE((SELECT MAX(comment_id) FROM comments) + 51, next_val));
@@ -0,0 +1,3 @@
+-- Vote shard compaction now deletes the rows it folds into options.vote_count.
+-- Drop rows left at zero by the previous subtract-in-place compaction.
+DELETE FROM option_vote_shards WHERE vote_count = 0;
@@ -0,0 +1,32 @@
+package com.jigit.backend.global.auth;
+
+import com.jigit.backend.global.exception.ApplicationException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdminKeyVerifierTest {
+
+    @Test
+    void acceptsMatchingKey() {
+        AdminKeyVerifier verifier = new AdminKeyVerifier("s3cret");
+
+        assertThatCode(() -> verifier.verify("s3cret")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsMissingOrWrongKey() {
+        AdminKeyVerifier verifier = new AdminKeyVerifier("s3cret");
+
+        assertThatThrownBy(() -> verifier.verify(null)).isInstanceOf(ApplicationException.class);
+        assertThatThrownBy(() -> verifier.verify("other")).isInstanceOf(ApplicationException.class);
+    }
+
+    @Test
+    void rejectsEverythingWhenNoKeyConfigured() {
+        AdminKeyVerifier verifier = new AdminKeyVerifier("");
+
+        assertThatThrownBy(() -> verifier.verify("")).isInstanceOf(ApplicationException.class);
+    }
+}
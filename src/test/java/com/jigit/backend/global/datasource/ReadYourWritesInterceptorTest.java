@@ -0,0 +1,87 @@
+package com.jigit.backend.global.datasource;
+
+import com.jigit.backend.global.auth.VerifiedTokenCache;
+import com.jigit.backend.global.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadYourWritesInterceptorTest {
+
+    private static final Long WRITER_ID = 1L;
+    private static final Long READER_ID = 2L;
+
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final VerifiedTokenCache verifiedTokenCache = mock(VerifiedTokenCache.class);
+    private final ReadYourWritesGuard guard = new ReadYourWritesGuard(60_000, 100);
+    private final ReadYourWritesInterceptor interceptor =
+            new ReadYourWritesInterceptor(jwtUtil, verifiedTokenCache, guard);
+
+    @BeforeEach
+    void setUp() {
+        when(jwtUtil.extractTokenFromHeader("Bearer writer")).thenReturn("writer");
+        when(jwtUtil.extractTokenFromHeader("Bearer reader")).thenReturn("reader");
+        when(verifiedTokenCache.getUserId("writer")).thenReturn(WRITER_ID);
+        when(verifiedTokenCache.getUserId("reader")).thenReturn(READER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        PrimaryRouting.unpin();
+    }
+
+    @Test
+    void userInsideWindowIsPinnedToPrimary() {
+        complete(request("POST", "writer"), 201);
+
+        MockHttpServletRequest read = request("GET", "writer");
+        interceptor.preHandle(read, new MockHttpServletResponse(), null);
+
+        assertThat(PrimaryRouting.isPinned()).isTrue();
+
+        interceptor.afterCompletion(read, new MockHttpServletResponse(), null, null);
+        assertThat(PrimaryRouting.isPinned()).isFalse();
+    }
+
+    @Test
+    void otherUsersAreNotPinned() {
+        complete(request("POST", "writer"), 201);
+
+        interceptor.preHandle(request("GET", "reader"), new MockHttpServletResponse(), null);
+
+        assertThat(PrimaryRouting.isPinned()).isFalse();
+    }
+
+    @Test
+    void failedWriteDoesNotStartWindow() {
+        complete(request("POST", "writer"), 400);
+
+        assertThat(guard.hasRecentWrite(WRITER_ID)).isFalse();
+    }
+
+    @Test
+    void readDoesNotStartWindow() {
+        complete(request("GET", "writer"), 200);
+
+        assertThat(guard.hasRecentWrite(WRITER_ID)).isFalse();
+    }
+
+    private void complete(MockHttpServletRequest request, int status) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+        response.setStatus(status);
+        interceptor.afterCompletion(request, response, null, null);
+    }
+
+    private static MockHttpServletRequest request(String method, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/polls/1");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,98 @@
+package com.jigit.backend.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection1 = mock(Connection.class);
+    private final Connection replicaConnection2 = mock(Connection.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        routingDataSource = new ReplicaRoutingDataSource(
+                dataSource(primaryConnection),
+                List.of(dataSource(replicaConnection1), dataSource(replicaConnection2)),
+                meterRegistry);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        PrimaryRouting.unpin();
+    }
+
+    @Test
+    void writeTransactionGoesToPrimary() throws SQLException {
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(routeCount("primary", "write")).isEqualTo(1);
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplicasInTurn() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection1);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection2);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection1);
+        assertThat(routeCount("replica", "read_only")).isEqualTo(3);
+    }
+
+    @Test
+    void pinnedThreadReadsFromPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Connection connection = PrimaryRouting.onPrimary(() -> {
+            try {
+                return routingDataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(PrimaryRouting.isPinned()).isFalse();
+        assertThat(routeCount("primary", "pinned")).isEqualTo(1);
+    }
+
+    @Test
+    void readOnlyTransactionWithoutReplicasGoesToPrimary() throws SQLException {
+        ReplicaRoutingDataSource primaryOnly =
+                new ReplicaRoutingDataSource(dataSource(primaryConnection), List.of(), new SimpleMeterRegistry());
+        primaryOnly.afterPropertiesSet();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(primaryOnly.getConnection()).isSameAs(primaryConnection);
+    }
+
+    private double routeCount(String route, String reason) {
+        return meterRegistry.get("datasource.routing.connections")
+                .tag("route", route)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
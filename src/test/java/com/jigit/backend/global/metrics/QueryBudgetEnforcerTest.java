@@ -0,0 +1,60 @@
+package com.jigit.backend.global.metrics;
+
+import com.jigit.backend.global.metrics.QueryBudgetEnforcer.QueryBudgetExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class QueryBudgetEnforcerTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new BudgetedController())
+                .addInterceptors(new QueryCountInterceptor(new SimpleMeterRegistry(), 5))
+                .setControllerAdvice(new QueryBudgetEnforcer())
+                .build();
+    }
+
+    @Test
+    void passesRequestWithinBudget() throws Exception {
+        mockMvc.perform(get("/budgeted").param("statements", "2"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void failsRequestOverBudget() {
+        assertThatThrownBy(() -> mockMvc.perform(get("/budgeted").param("statements", "3")))
+                .hasRootCauseInstanceOf(QueryBudgetExceededException.class)
+                .hasStackTraceContaining("3 statements, budget 2");
+    }
+
+    @RestController
+    static class BudgetedController {
+
+        /**
+         * Records the given number of statements, as the Hibernate inspector would.
+         */
+        @QueryBudget(2)
+        @GetMapping("/budgeted")
+        Map<String, Integer> budgeted(@RequestParam int statements) {
+            RequestQueryStats stats = RequestQueryStats.current().orElseThrow();
+            for (int i = 0; i < statements; i++) {
+                stats.recordStatement("select * from polls where poll_id = ?");
+            }
+            return Map.of("statements", statements);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.jigit.backend.global.util;
+
+import com.jigit.backend.global.exception.ApplicationException;
+import com.jigit.backend.global.exception.CommonException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsTimestampAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_897_000);
+
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of(createdAt, 42L).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void roundTripsTimestampWithoutSeconds() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of(createdAt, 1L).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void encodesUrlSafeTokenWithoutPadding() {
+        String token = KeysetCursor.of(LocalDateTime.of(2025, 1, 1, 12, 30, 5), 1234567L).encode();
+
+        assertThat(token).doesNotContain("+", "/", "=");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "bm8tZGVsaW1pdGVy", ""})
+    void rejectsMalformedTokens(String token) {
+        assertThatThrownBy(() -> KeysetCursor.decode(token))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getExceptionCode())
+                .isEqualTo(CommonException.INVALID_CURSOR);
+    }
+
+    @Test
+    void rejectsTokenWithInvalidParts() {
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("yesterday|abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> KeysetCursor.decode(token))
+                .isInstanceOf(ApplicationException.class);
+    }
+}
@@ -0,0 +1,61 @@
+package com.jigit.backend.poll.application;
+
+import com.jigit.backend.poll.domain.OptionRepository;
+import com.jigit.backend.poll.domain.PollRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PollMetadataCacheTest {
+
+    private PollRepository pollRepository;
+    private PollMetadataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        pollRepository = mock(PollRepository.class);
+        when(pollRepository.findSummaryById(anyLong())).thenReturn(Optional.empty());
+        cache = new PollMetadataCache(pollRepository, mock(OptionRepository.class), 100, 60, 10);
+    }
+
+    @Test
+    void servesCreatedPollWithoutDatabase() {
+        cache.onPollCreated(new PollCreatedEvent(7L, true, 1L, List.of(70L, 71L)));
+
+        PollMetadata metadata = cache.getRequired(7L);
+
+        assertThat(metadata.hasOption(71L)).isTrue();
+        verify(pollRepository, never()).findSummaryById(anyLong());
+    }
+
+    @Test
+    void doesNotCacheMissAboveHighestKnownPollId() {
+        cache.onPollCreated(new PollCreatedEvent(7L, true, 1L, List.of(70L)));
+
+        // May be a poll just created on another instance
+        assertThat(cache.find(8L)).isEmpty();
+        assertThat(cache.find(8L)).isEmpty();
+
+        verify(pollRepository, times(2)).findSummaryById(8L);
+    }
+
+    @Test
+    void cachesMissAtOrBelowHighestKnownPollId() {
+        cache.onPollCreated(new PollCreatedEvent(7L, true, 1L, List.of(70L)));
+
+        assertThat(cache.find(3L)).isEmpty();
+        assertThat(cache.find(3L)).isEmpty();
+
+        verify(pollRepository, times(1)).findSummaryById(3L);
+    }
+}
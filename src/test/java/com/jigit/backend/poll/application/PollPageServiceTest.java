@@ -0,0 +1,189 @@
+package com.jigit.backend.poll.application;
+
+import com.jigit.backend.comment.application.CommentService;
+import com.jigit.backend.global.metrics.QueryCountInspector;
+import com.jigit.backend.global.metrics.RequestQueryStats;
+import com.jigit.backend.comment.presentation.dto.CommentListResponse;
+import com.jigit.backend.poll.presentation.dto.GetPollResponse;
+import com.jigit.backend.poll.presentation.dto.PollPageResponse;
+import com.jigit.backend.vote.application.VoteService;
+import com.jigit.backend.vote.presentation.dto.VoteStatusResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PollPageServiceTest {
+
+    private final PollService pollService = mock(PollService.class);
+    private final VoteService voteService = mock(VoteService.class);
+    private final CommentService commentService = mock(CommentService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PollPageService pollPageService;
+
+    @AfterEach
+    void tearDown() {
+        pollPageService.shutdown();
+    }
+
+    @Test
+    void loadsSequentiallyWhenNoFanOutPermitIsFree() {
+        pollPageService = sequentialService(50);
+        Thread caller = Thread.currentThread();
+        AtomicBoolean resultsOnCaller = new AtomicBoolean();
+        when(voteService.getPollResults(1L)).thenAnswer(invocation -> {
+            resultsOnCaller.set(Thread.currentThread() == caller);
+            return null;
+        });
+        when(commentService.getComments(anyLong(), anyString(), any(), anyInt()))
+                .thenThrow(new IllegalStateException("comments down"));
+
+        PollPageResponse page = pollPageService.getPollPage(1L, null, 10);
+
+        assertThat(resultsOnCaller).isTrue();
+        assertThat(page.getUnavailable()).containsExactly("comments");
+        assertThat(meterRegistry.counter("poll.page.sequential").count()).isEqualTo(1);
+    }
+
+    @Test
+    void slowSectionIsLeftRunningUninterruptedAndKeepsItsPermit() throws InterruptedException {
+        pollPageService = service(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        when(voteService.getPollResults(1L)).thenAnswer(invocation -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            finished.countDown();
+            return null;
+        });
+
+        PollPageResponse slowPage = pollPageService.getPollPage(1L, null, 10);
+        assertThat(slowPage.getUnavailable()).containsExactly("results");
+
+        // The first fan-out still holds the only permit while its results section runs
+        when(voteService.getPollResults(2L)).thenReturn(null);
+        pollPageService.getPollPage(2L, null, 10);
+        assertThat(meterRegistry.counter("poll.page.sequential").count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isFalse();
+    }
+
+    @Test
+    void forkedSectionsRecordStatementsIntoCallersQueryStats() {
+        pollPageService = service(1, 5_000);
+        QueryCountInspector inspector = new QueryCountInspector();
+        when(voteService.getPollResults(1L)).thenAnswer(invocation -> {
+            inspector.inspect("select * from options where poll_id = ?");
+            return null;
+        });
+        when(commentService.getComments(anyLong(), anyString(), any(), anyInt())).thenAnswer(invocation -> {
+            inspector.inspect("select * from comments where poll_id = ?");
+            inspector.inspect("select * from users where user_id in (?)");
+            return null;
+        });
+
+        RequestQueryStats.begin();
+        try {
+            PollPageResponse page = pollPageService.getPollPage(1L, null, 10);
+
+            assertThat(page.getUnavailable()).isEmpty();
+            assertThat(RequestQueryStats.current().orElseThrow().getStatementCount()).isEqualTo(3);
+        } finally {
+            RequestQueryStats.end();
+        }
+    }
+
+    @Test
+    void sequentialAndFanOutPagesAreIdentical() {
+        GetPollResponse poll = new GetPollResponse(1L, "Lunch", true, List.of(), 7L, null, 3);
+        VoteStatusResponse voteStatus = new VoteStatusResponse(true, 10L);
+        when(pollService.getPollById(1L)).thenReturn(poll);
+        when(voteService.getPollResults(1L)).thenThrow(new IllegalStateException("results down"));
+        when(voteService.checkVoteStatus(7L, 1L)).thenReturn(voteStatus);
+        when(commentService.getComments(anyLong(), anyString(), any(), anyInt()))
+                .thenThrow(new IllegalStateException("comments down"));
+
+        pollPageService = sequentialService(5_000);
+        PollPageResponse sequential = pollPageService.getPollPage(1L, 7L, 10);
+        pollPageService.shutdown();
+        pollPageService = service(4, 5_000);
+        PollPageResponse fannedOut = pollPageService.getPollPage(1L, 7L, 10);
+
+        assertThat(meterRegistry.counter("poll.page.sequential").count()).isEqualTo(1);
+        for (PollPageResponse page : List.of(sequential, fannedOut)) {
+            assertThat(page.getPoll()).isSameAs(poll);
+            assertThat(page.getResults()).isNull();
+            assertThat(page.getVoteStatus()).isSameAs(voteStatus);
+            assertThat(page.getComments()).isNull();
+        }
+        assertThat(fannedOut.getUnavailable())
+                .containsExactly("results", "comments")
+                .isEqualTo(sequential.getUnavailable());
+    }
+
+    @Test
+    void sizesFanOutLimitFromConnectionPool() {
+        try (HikariDataSource pool = new HikariDataSource()) {
+            pool.setMaximumPoolSize(20);
+            pollPageService = service(0, 50, pool);
+
+            assertThat(meterRegistry.get("poll.page.fan_out.available").gauge().value()).isEqualTo(5);
+        }
+    }
+
+    /**
+     * A pool with fewer than four connections leaves no fan-out permits, so every page loads sequentially.
+     */
+    private PollPageService sequentialService(long branchTimeoutMs) {
+        HikariDataSource smallPool = new HikariDataSource();
+        smallPool.setMaximumPoolSize(3);
+        return service(0, branchTimeoutMs, smallPool);
+    }
+
+    private PollPageService service(int maxConcurrentPages) {
+        return service(maxConcurrentPages, 50);
+    }
+
+    private PollPageService service(int maxConcurrentPages, long branchTimeoutMs) {
+        return service(maxConcurrentPages, branchTimeoutMs, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private PollPageService service(int maxConcurrentPages, long branchTimeoutMs, HikariDataSource pool) {
+        ObjectProvider<HikariDataSource> connectionPool = mock(ObjectProvider.class);
+        when(connectionPool.getIfUnique()).thenReturn(pool);
+        return new PollPageService(
+                pollService,
+                voteService,
+                commentService,
+                mock(PollMetadataCache.class),
+                meterRegistry,
+                mock(PlatformTransactionManager.class),
+                connectionPool,
+                branchTimeoutMs,
+                maxConcurrentPages
+        );
+    }
+}
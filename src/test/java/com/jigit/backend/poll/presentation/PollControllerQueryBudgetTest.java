@@ -0,0 +1,92 @@
+package com.jigit.backend.poll.presentation;
+
+import com.jigit.backend.global.auth.VerifiedTokenCache;
+import com.jigit.backend.global.metrics.QueryCountInspector;
+import com.jigit.backend.global.util.JwtUtil;
+import com.jigit.backend.poll.application.PollPageService;
+import com.jigit.backend.poll.application.PollService;
+import com.jigit.backend.poll.presentation.dto.GetPollResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs GET /api/polls/{pollId} (@QueryBudget(3)) through the real MVC setup under the test profile,
+ * where QueryBudgetEnforcer fails requests over budget.
+ */
+@WebMvcTest(PollController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+@Import(PollControllerQueryBudgetTest.MetricsTestConfig.class)
+class PollControllerQueryBudgetTest {
+
+    private static final String POLL_QUERY = "select * from polls where poll_id = ?";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PollService pollService;
+
+    @MockitoBean
+    private PollPageService pollPageService;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Test
+    void servesRequestWithinBudget() throws Exception {
+        stubGetPollIssuing(3);
+
+        mockMvc.perform(get("/api/polls/1"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void failsRequestOverBudget() throws Exception {
+        stubGetPollIssuing(4);
+
+        mockMvc.perform(get("/api/polls/1"))
+                .andExpect(status().isInternalServerError());
+    }
+
+    /**
+     * Make the service issue the given number of statements, as Hibernate would report them.
+     */
+    private void stubGetPollIssuing(int statements) {
+        QueryCountInspector inspector = new QueryCountInspector();
+        when(pollService.getPollById(1L)).thenAnswer(invocation -> {
+            for (int i = 0; i < statements; i++) {
+                inspector.inspect(POLL_QUERY);
+            }
+            return new GetPollResponse(1L, "Lunch", true, List.of(), 1L, null, 0);
+        });
+    }
+
+    @TestConfiguration
+    static class MetricsTestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
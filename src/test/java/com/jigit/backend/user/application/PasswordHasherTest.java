@@ -0,0 +1,48 @@
+package com.jigit.backend.user.application;
+
+import com.jigit.backend.global.config.SecurityConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHasherTest {
+
+    private static final int CURRENT_STRENGTH = 5;
+
+    private final PasswordHasher passwordHasher = new PasswordHasher(
+            new SecurityConfig().passwordEncoder(CURRENT_STRENGTH), new SimpleMeterRegistry(), 1, 4);
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void currentHashIsPrefixedAndNeedsNoRehash() {
+        String hash = passwordHasher.encode("password");
+
+        assertThat(hash).startsWith("{bcrypt}");
+        assertThat(passwordHasher.matches("password", hash)).isTrue();
+        assertThat(passwordHasher.needsRehash(hash)).isFalse();
+    }
+
+    @Test
+    void legacyUnprefixedHashStillMatchesAndNeedsRehash() {
+        String legacyHash = new BCryptPasswordEncoder(CURRENT_STRENGTH).encode("password");
+
+        assertThat(passwordHasher.matches("password", legacyHash)).isTrue();
+        assertThat(passwordHasher.matches("wrong", legacyHash)).isFalse();
+        assertThat(passwordHasher.needsRehash(legacyHash)).isTrue();
+    }
+
+    @Test
+    void lowerCostHashNeedsRehash() {
+        String lowerCostHash = "{bcrypt}" + new BCryptPasswordEncoder(CURRENT_STRENGTH - 1).encode("password");
+
+        assertThat(passwordHasher.matches("password", lowerCostHash)).isTrue();
+        assertThat(passwordHasher.needsRehash(lowerCostHash)).isTrue();
+    }
+}
@@ -0,0 +1,101 @@
+package com.jigit.backend.vote.application;
+
+import com.jigit.backend.vote.presentation.dto.OptionResultDto;
+import com.jigit.backend.vote.presentation.dto.PollResultsResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LivePollResultsTest {
+
+    private LivePollResults newResults(int... counts) {
+        return new LivePollResults(1L, "Favorite language?", List.of(10L, 20L), List.of("Java", "Kotlin"), counts);
+    }
+
+    @Test
+    void computesPercentagesFromInitialCounts() {
+        PollResultsResponse response = newResults(1, 2).toResponse();
+
+        assertThat(response.getTotalVotes()).isEqualTo(3);
+        assertThat(response.getOptions()).extracting(OptionResultDto::getPercentage)
+                .containsExactly(33.33, 66.67);
+    }
+
+    @Test
+    void reusesResponseUntilNextVote() {
+        LivePollResults results = newResults(0, 0);
+
+        PollResultsResponse first = results.toResponse();
+        assertThat(results.toResponse()).isSameAs(first);
+
+        assertThat(results.increment(20L, 1)).isTrue();
+        PollResultsResponse afterVote = results.toResponse();
+        assertThat(afterVote).isNotSameAs(first);
+        assertThat(afterVote.getTotalVotes()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsOptionOfAnotherPoll() {
+        LivePollResults results = newResults(0, 0);
+
+        assertThat(results.increment(99L, 1)).isFalse();
+        assertThat(results.toResponse().getTotalVotes()).isZero();
+    }
+
+    @Test
+    void ignoresVoteTheLoadAlreadyCounted() {
+        // Loaded with the vote sequenced as 5 already in the database counts
+        LivePollResults results = newResults(1, 0);
+        results.coverVotesThrough(5);
+
+        // Its commit listener reaches the cache only after the load was installed
+        assertThat(results.increment(10L, 5)).isTrue();
+        assertThat(results.toResponse().getTotalVotes()).isEqualTo(1);
+
+        // A vote sequenced after the load started is applied
+        assertThat(results.increment(20L, 6)).isTrue();
+        assertThat(results.toResponse().getOptions()).extracting(OptionResultDto::getVoteCount)
+                .containsExactly(1, 1);
+    }
+
+    @Test
+    void neverServesStaleResponseAfterConcurrentVotes() throws Exception {
+        LivePollResults results = newResults(0, 0);
+        int threads = 8;
+        int votesPerThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong sequence = new AtomicLong();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long optionId = t % 2 == 0 ? 10L : 20L;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < votesPerThread; i++) {
+                        results.increment(optionId, sequence.incrementAndGet());
+                        // Readers race the votes, recomputing and publishing snapshots
+                        results.toResponse();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(results.toResponse().getTotalVotes()).isEqualTo(threads * votesPerThread);
+    }
+}
@@ -0,0 +1,103 @@
+package com.jigit.backend.vote.application;
+
+import com.jigit.backend.poll.domain.OptionRepository;
+import com.jigit.backend.vote.domain.OptionVoteShardRepository;
+import com.jigit.backend.vote.domain.OptionVoteShardRepository.ShardCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShardedVoteCounterTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    private OptionVoteShardRepository shardRepository;
+    private OptionRepository optionRepository;
+    private ShardedVoteCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        shardRepository = mock(OptionVoteShardRepository.class);
+        optionRepository = mock(OptionRepository.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        counter = new ShardedVoteCounter(shardRepository, optionRepository, transactionTemplate, 16, BATCH_SIZE);
+    }
+
+    @Test
+    void foldsShardsIntoOptionsAndDeletesThem() {
+        when(shardRepository.lockPendingShards(BATCH_SIZE)).thenReturn(List.of(
+                shard(1L, 0, 2L),
+                shard(1L, 5, 3L)
+        ));
+
+        counter.compact();
+
+        InOrder order = inOrder(optionRepository, shardRepository);
+        order.verify(optionRepository).addVoteCount(1L, 5);
+        order.verify(shardRepository).deleteShard(1L, 0);
+        order.verify(shardRepository).deleteShard(1L, 5);
+    }
+
+    @Test
+    void keepsCompactingWhileBatchesAreFull() {
+        when(shardRepository.lockPendingShards(BATCH_SIZE))
+                .thenReturn(List.of(shard(1L, 0, 1L), shard(2L, 0, 1L), shard(3L, 0, 1L)))
+                .thenReturn(List.of(shard(4L, 0, 7L)));
+
+        counter.compact();
+
+        verify(shardRepository, times(2)).lockPendingShards(BATCH_SIZE);
+        verify(optionRepository).addVoteCount(4L, 7);
+        verify(shardRepository, times(4)).deleteShard(anyLong(), anyInt());
+    }
+
+    @Test
+    void doesNothingWithoutPendingShards() {
+        when(shardRepository.lockPendingShards(BATCH_SIZE)).thenReturn(List.of());
+
+        counter.compact();
+
+        verify(optionRepository, never()).addVoteCount(anyLong(), anyInt());
+        verify(shardRepository, never()).deleteShard(anyLong(), anyInt());
+    }
+
+    @Test
+    void reconcileLeavesShardRowsInPlace() {
+        counter.reconcile();
+
+        verify(optionRepository).reconcileVoteCountsExcludingShards();
+        verify(optionRepository, never()).reconcileVoteCounts();
+    }
+
+    private static ShardCount shard(Long optionId, Integer shard, Long voteCount) {
+        return new ShardCount() {
+            @Override
+            public Long getOptionId() {
+                return optionId;
+            }
+
+            @Override
+            public Integer getShard() {
+                return shard;
+            }
+
+            @Override
+            public Long getVoteCount() {
+                return voteCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.jigit.backend.vote.application;
+
+import com.jigit.backend.poll.domain.OptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VoteCountReconcilerTest {
+
+    private VoteCounter voteCounter;
+    private OptionRepository optionRepository;
+    private VoteCountReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        voteCounter = mock(VoteCounter.class);
+        optionRepository = mock(OptionRepository.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        reconciler = new VoteCountReconciler(voteCounter, optionRepository, transactionTemplate);
+    }
+
+    @Test
+    void reconcilesAndReleasesLockWhenLockAcquired() {
+        when(optionRepository.tryNamedLock(VoteCountReconciler.LOCK_NAME)).thenReturn(1);
+
+        reconciler.afterSingletonsInstantiated();
+
+        verify(voteCounter).reconcile();
+        verify(optionRepository).releaseNamedLock(VoteCountReconciler.LOCK_NAME);
+    }
+
+    @Test
+    void skipsWhenAnotherInstanceHoldsLock() {
+        when(optionRepository.tryNamedLock(VoteCountReconciler.LOCK_NAME)).thenReturn(0);
+
+        reconciler.afterSingletonsInstantiated();
+
+        verify(voteCounter, never()).reconcile();
+        verify(optionRepository, never()).releaseNamedLock(VoteCountReconciler.LOCK_NAME);
+    }
+
+    @Test
+    void releasesLockWhenReconcileFails() {
+        when(optionRepository.tryNamedLock(VoteCountReconciler.LOCK_NAME)).thenReturn(1);
+        when(voteCounter.reconcile()).thenThrow(new IllegalStateException("reconcile failed"));
+
+        assertThatThrownBy(() -> reconciler.afterSingletonsInstantiated())
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(optionRepository).releaseNamedLock(VoteCountReconciler.LOCK_NAME);
+    }
+}
@@ -0,0 +1,161 @@
+package com.jigit.backend.vote.application;
+
+import com.jigit.backend.global.exception.ApplicationException;
+import com.jigit.backend.poll.domain.OptionRepository;
+import com.jigit.backend.poll.domain.PollRepository;
+import com.jigit.backend.user.domain.UserRepository;
+import com.jigit.backend.vote.domain.Vote;
+import com.jigit.backend.vote.domain.VoteRepository;
+import com.jigit.backend.vote.exception.VoteException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VoteIngestionQueueTest {
+
+    private VoteService voteService;
+    private VoteRepository voteRepository;
+    private PlatformTransactionManager transactionManager;
+    private VoteMetrics voteMetrics;
+
+    @BeforeEach
+    void setUp() {
+        voteService = mock(VoteService.class);
+        voteRepository = mock(VoteRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        voteMetrics = mock(VoteMetrics.class);
+        when(voteRepository.findVoterIdsByPollIdAndVoterIdIn(anyLong(), any())).thenReturn(List.of());
+    }
+
+    private VoteIngestionQueue newQueue(int capacity, int batchSize, boolean syncAck, long ackTimeoutMs) {
+        return new VoteIngestionQueue(
+                voteService,
+                voteRepository,
+                mock(OptionRepository.class),
+                mock(PollRepository.class),
+                mock(UserRepository.class),
+                mock(ApplicationEventPublisher.class),
+                new TransactionTemplate(transactionManager),
+                voteMetrics,
+                true,
+                capacity,
+                batchSize,
+                syncAck,
+                ackTimeoutMs
+        );
+    }
+
+    @Test
+    void rejectsWith429WhenQueueIsFull() {
+        VoteIngestionQueue queue = newQueue(1, 10, false, 1000);
+
+        assertThat(queue.submit(1L, 10L, 100L).getMessage()).isEqualTo("Vote accepted for processing");
+        assertThatThrownBy(() -> queue.submit(2L, 10L, 100L))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getExceptionCode())
+                .isEqualTo(VoteException.VOTE_QUEUE_FULL);
+    }
+
+    @Test
+    void failsWith503WhenCommitIsNotConfirmedInTime() {
+        // Writer not started, so the vote is never committed
+        VoteIngestionQueue queue = newQueue(10, 10, true, 50);
+
+        assertThatThrownBy(() -> queue.submit(1L, 10L, 100L))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getExceptionCode())
+                .isEqualTo(VoteException.VOTE_COMMIT_TIMEOUT);
+    }
+
+    @Test
+    void rejectsInvalidOptionBeforeQueueing() {
+        VoteIngestionQueue queue = newQueue(1, 10, false, 1000);
+        ApplicationException invalidOption = new ApplicationException(VoteException.INVALID_OPTION);
+        doThrow(invalidOption).when(voteService).validateOption(10L, 999L);
+
+        assertThatThrownBy(() -> queue.submit(1L, 10L, 999L)).isSameAs(invalidOption);
+        // The rejected vote did not take the only slot
+        assertThat(queue.submit(2L, 10L, 100L).getMessage()).isEqualTo("Vote accepted for processing");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void groupsQueuedVotesIntoBatchTransactions() {
+        VoteIngestionQueue queue = newQueue(100, 2, false, 1000);
+        for (long userId = 1; userId <= 5; userId++) {
+            queue.submit(userId, 10L, 100L);
+        }
+
+        // Stop drains everything that was queued before returning
+        queue.start();
+        queue.stop();
+
+        ArgumentCaptor<List<Vote>> batches = ArgumentCaptor.forClass(List.class);
+        verify(voteRepository, times(3)).saveAll(batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dropsSecondVoteOfSameUserWithinBatch() {
+        VoteIngestionQueue queue = newQueue(100, 10, false, 1000);
+        queue.submit(1L, 10L, 100L);
+        queue.submit(1L, 10L, 101L);
+
+        queue.start();
+        queue.stop();
+
+        ArgumentCaptor<List<Vote>> batch = ArgumentCaptor.forClass(List.class);
+        verify(voteRepository).saveAll(batch.capture());
+        assertThat(batch.getValue()).hasSize(1);
+        verify(voteMetrics).recordDuplicates("queue", 1);
+        verify(voteMetrics).recordDroppedQueuedVote("duplicate");
+    }
+
+    @Test
+    void countsDuplicateDroppedAfterAsyncAcceptance() {
+        VoteIngestionQueue queue = newQueue(100, 10, false, 1000);
+        when(voteRepository.findVoterIdsByPollIdAndVoterIdIn(anyLong(), any())).thenReturn(List.of(1L));
+
+        assertThat(queue.submit(1L, 10L, 100L).getMessage()).isEqualTo("Vote accepted for processing");
+        queue.start();
+        queue.stop();
+
+        verify(voteRepository, never()).saveAll(any());
+        verify(voteMetrics).recordDroppedQueuedVote("duplicate");
+    }
+
+    @Test
+    void doesNotCountDropsWhenClientWaitsForCommit() {
+        VoteIngestionQueue queue = newQueue(100, 10, true, 1000);
+        when(voteRepository.findVoterIdsByPollIdAndVoterIdIn(anyLong(), any())).thenReturn(List.of(1L));
+        queue.start();
+
+        try {
+            assertThatThrownBy(() -> queue.submit(1L, 10L, 100L))
+                    .isInstanceOf(ApplicationException.class)
+                    .extracting(e -> ((ApplicationException) e).getExceptionCode())
+                    .isEqualTo(VoteException.DUPLICATE_VOTE);
+        } finally {
+            queue.stop();
+        }
+        verify(voteMetrics, never()).recordDroppedQueuedVote(any());
+    }
+}
@@ -0,0 +1,60 @@
+package com.jigit.backend.vote.application;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoterBloomFilterTest {
+
+    @Test
+    void neverReportsAnAddedVoterAsMissing() {
+        VoterBloomFilter filter = new VoterBloomFilter(10_000, 0.01);
+        for (long userId = 1; userId <= 10_000; userId++) {
+            filter.add(userId);
+        }
+
+        for (long userId = 1; userId <= 10_000; userId++) {
+            assertThat(filter.mightContain(userId)).isTrue();
+        }
+    }
+
+    @Test
+    void keepsFalsePositiveRateNearTargetAtCapacity() {
+        VoterBloomFilter filter = new VoterBloomFilter(10_000, 0.01);
+        for (long userId = 1; userId <= 10_000; userId++) {
+            filter.add(userId);
+        }
+
+        int falsePositives = 0;
+        int lookups = 100_000;
+        for (long userId = 1_000_000; userId < 1_000_000 + lookups; userId++) {
+            if (filter.mightContain(userId)) {
+                falsePositives++;
+            }
+        }
+
+        // Target 1%; allow for sampling noise
+        assertThat((double) falsePositives / lookups).isLessThan(0.02);
+        assertThat(filter.getExpectedFalsePositiveRate()).isBetween(0.005, 0.015);
+    }
+
+    @Test
+    void reportsOverCapacityOnceMoreVotersThanSizedFor() {
+        VoterBloomFilter filter = new VoterBloomFilter(2, 0.01);
+        filter.add(1L);
+        filter.add(2L);
+        assertThat(filter.isOverCapacity()).isFalse();
+
+        filter.add(3L);
+        assertThat(filter.isOverCapacity()).isTrue();
+    }
+
+    @Test
+    void startsNotReady() {
+        VoterBloomFilter filter = new VoterBloomFilter(16, 0.01);
+        assertThat(filter.isReady()).isFalse();
+
+        filter.markReady();
+        assertThat(filter.isReady()).isTrue();
+    }
+}
@@ -0,0 +1,82 @@
+package com.jigit.backend.vote.application;
+
+import com.jigit.backend.vote.application.VoterFilterCache.Answer;
+import com.jigit.backend.vote.domain.VoteRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VoterFilterCacheTest {
+
+    private static final Long POLL_ID = 1L;
+
+    private VoteRepository voteRepository;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        voteRepository = mock(VoteRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(voteRepository.countByPoll_PollId(POLL_ID)).thenReturn(2L);
+        when(voteRepository.findVoterIdsByPollId(POLL_ID)).thenReturn(List.of(10L, 11L));
+    }
+
+    private VoterFilterCache newCache(boolean enabled) {
+        return new VoterFilterCache(voteRepository, meterRegistry, enabled, 100, 30, 0.01, 1024);
+    }
+
+    @Test
+    void answersNotVotedAndMaybeVotedFromLoadedVoters() {
+        VoterFilterCache cache = newCache(true);
+
+        assertThat(cache.lookup(POLL_ID, 10L)).isEqualTo(Answer.MAYBE_VOTED);
+        assertThat(cache.lookup(POLL_ID, 999L)).isEqualTo(Answer.NOT_VOTED);
+    }
+
+    @Test
+    void answersUnknownWhenDisabled() {
+        VoterFilterCache cache = newCache(false);
+
+        assertThat(cache.lookup(POLL_ID, 999L)).isEqualTo(Answer.UNKNOWN);
+    }
+
+    @Test
+    void addsCommittedVotesToLoadedFilter() {
+        VoterFilterCache cache = newCache(true);
+        assertThat(cache.lookup(POLL_ID, 12L)).isEqualTo(Answer.NOT_VOTED);
+
+        cache.onVoteSubmitted(new VoteSubmittedEvent(POLL_ID, 100L, 12L));
+
+        assertThat(cache.lookup(POLL_ID, 12L)).isEqualTo(Answer.MAYBE_VOTED);
+    }
+
+    @Test
+    void enabledFilterMissesVoteCommittedOnAnotherInstance() {
+        VoterFilterCache thisInstance = newCache(true);
+        VoterFilterCache otherInstance = newCache(true);
+        thisInstance.lookup(POLL_ID, 12L);
+        otherInstance.lookup(POLL_ID, 12L);
+
+        // Committed through the other instance: only its filter hears about the vote
+        otherInstance.onVoteSubmitted(new VoteSubmittedEvent(POLL_ID, 100L, 12L));
+
+        assertThat(otherInstance.lookup(POLL_ID, 12L)).isEqualTo(Answer.MAYBE_VOTED);
+        assertThat(thisInstance.lookup(POLL_ID, 12L)).isEqualTo(Answer.NOT_VOTED);
+    }
+
+    @Test
+    void disabledFilterLeavesCrossInstanceVotesToTheDatabase() {
+        VoterFilterCache thisInstance = newCache(false);
+        VoterFilterCache otherInstance = newCache(false);
+
+        otherInstance.onVoteSubmitted(new VoteSubmittedEvent(POLL_ID, 100L, 12L));
+
+        assertThat(thisInstance.lookup(POLL_ID, 12L)).isEqualTo(Answer.UNKNOWN);
+    }
+}